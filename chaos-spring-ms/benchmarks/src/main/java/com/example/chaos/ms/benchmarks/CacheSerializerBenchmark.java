@@ -0,0 +1,59 @@
+package com.example.chaos.ms.benchmarks;
+
+import com.example.chaos.ms.cache.CompactRedisSerializer;
+import com.example.chaos.ms.cache.ItemDTOCodec;
+import com.example.chaos.ms.dto.ItemDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis cache value serializer for {@code items}: the compact codec against the JDK serialization
+ * it replaced. {@code nameLength} 2000 crosses the compression threshold.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    @Param({"compact", "jdk"})
+    private String serializer;
+
+    @Param({"7", "2000"})
+    private int nameLength;
+
+    private RedisSerializer<Object> redisSerializer;
+    private ItemDTO item;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        redisSerializer = "compact".equals(serializer)
+                ? new CompactRedisSerializer(List.of(new ItemDTOCodec()), classLoader, true, 512)
+                : new JdkSerializationRedisSerializer(classLoader);
+        item = new ItemDTO(42L, "x".repeat(nameLength), 123.45, 0L);
+        encoded = redisSerializer.serialize(item);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(item);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return redisSerializer.deserialize(encoded);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return redisSerializer.deserialize(redisSerializer.serialize(item));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.chaos.ms.benchmarks;
+
+import com.example.chaos.ms.context.CorrelationId;
+import com.example.chaos.ms.filter.CorrelationIdFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlation id generation and the per-request work of {@link CorrelationIdFilter} (header lookup,
+ * MDC put/remove, response header), with and without an inbound id. Run with {@code -t 4} or more
+ * to see generator contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorrelationIdBenchmark {
+
+    @State(Scope.Thread)
+    public static class FilterState {
+
+        @Param({"false", "true"})
+        private boolean inboundId;
+
+        private final CorrelationIdFilter filter = new CorrelationIdFilter();
+        private final FilterChain chain = (request, response) -> { };
+        private MockHttpServletRequest request;
+
+        @Setup
+        public void setUp() {
+            request = new MockHttpServletRequest("GET", "/api/items/42");
+            if (inboundId) {
+                request.addHeader(CorrelationId.HEADER, CorrelationId.generate());
+            }
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return CorrelationId.generate();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter(FilterState state) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        state.filter.doFilter(state.request, response, state.chain);
+        return response;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.chaos.ms.benchmarks;
+
+import com.example.chaos.ms.dto.EnrichedItemDTO;
+import com.example.chaos.ms.dto.ExternalInfoDTO;
+import com.example.chaos.ms.dto.ItemDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Jackson (de)serialization of the response DTOs, with the same settings as application.yml
+ * ({@code write-dates-as-timestamps: false}, {@code default-property-inclusion: non_null}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter itemWriter;
+    private ObjectWriter enrichedWriter;
+    private ObjectWriter listWriter;
+    private ItemDTO item;
+    private EnrichedItemDTO enrichedItem;
+    private List<ItemDTO> items;
+    private byte[] itemJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        itemWriter = objectMapper.writerFor(ItemDTO.class);
+        enrichedWriter = objectMapper.writerFor(EnrichedItemDTO.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ItemDTO.class));
+
+        item = new ItemDTO(42L, "Item-42", 123.45, 0L);
+        enrichedItem = new EnrichedItemDTO(item, new ExternalInfoDTO(42L, "External details for 42", "OK"));
+        items = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> new ItemDTO(id, "Item-" + id, id * 1.5, 0L))
+                .toList();
+        itemJson = itemWriter.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public byte[] writeItem() throws Exception {
+        return itemWriter.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public byte[] writeEnrichedItem() throws Exception {
+        return enrichedWriter.writeValueAsBytes(enrichedItem);
+    }
+
+    @Benchmark
+    public byte[] writeItemList() throws Exception {
+        return listWriter.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public ItemDTO readItem() throws Exception {
+        return objectMapper.readValue(itemJson, ItemDTO.class);
+    }
+}
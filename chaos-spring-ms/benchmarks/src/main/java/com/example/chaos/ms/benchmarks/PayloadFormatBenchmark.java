@@ -0,0 +1,112 @@
+package com.example.chaos.ms.benchmarks;
+
+import com.example.chaos.ms.dto.EnrichedItemDTO;
+import com.example.chaos.ms.dto.ExternalInfoDTO;
+import com.example.chaos.ms.dto.ItemDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body cost per format negotiated by {@code ItemController} (JSON, Smile, CBOR), with and
+ * without gzip at the service's default level 1. Payload sizes are printed once per trial as
+ * {@code # payload bytes}. In the service, bodies under {@code http.compression.min-response-size}
+ * (2KB, so any single item) are never gzipped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"none", "gzip"})
+    private String compression;
+
+    @Param({"1000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter itemWriter;
+    private ObjectWriter enrichedWriter;
+    private ObjectWriter listWriter;
+    private ItemDTO item;
+    private EnrichedItemDTO enrichedItem;
+    private List<ItemDTO> items;
+    private byte[] listBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = new ObjectMapper(factory)
+                .findAndRegisterModules()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        itemWriter = objectMapper.writerFor(ItemDTO.class);
+        enrichedWriter = objectMapper.writerFor(EnrichedItemDTO.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ItemDTO.class));
+
+        item = new ItemDTO(42L, "Item-42", 123.45, 0L);
+        enrichedItem = new EnrichedItemDTO(item, new ExternalInfoDTO(42L, "External details for 42", "OK"));
+        items = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> new ItemDTO(id, "Item-" + id, id * 1.5, 0L))
+                .toList();
+        listBody = listWriter.writeValueAsBytes(items);
+
+        System.out.printf("# payload bytes (%s, %s): item=%d enriched=%d list[%d]=%d%n", format, compression,
+                writeItem().length, writeEnrichedItem().length, listSize, writeItemList().length);
+    }
+
+    @Benchmark
+    public byte[] writeItem() throws IOException {
+        return encode(itemWriter, item);
+    }
+
+    @Benchmark
+    public byte[] writeEnrichedItem() throws IOException {
+        return encode(enrichedWriter, enrichedItem);
+    }
+
+    @Benchmark
+    public byte[] writeItemList() throws IOException {
+        return encode(listWriter, items);
+    }
+
+    @Benchmark
+    public List<ItemDTO> readItemList() throws IOException {
+        return objectMapper.readerForListOf(ItemDTO.class).readValue(listBody);
+    }
+
+    private byte[] encode(ObjectWriter writer, Object value) throws IOException {
+        if (!"gzip".equals(compression)) {
+            return writer.writeValueAsBytes(value);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, 8192) {
+            {
+                def.setLevel(1);
+            }
+        }) {
+            writer.writeValue(gzip, value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.chaos.ms.benchmarks;
+
+import com.example.chaos.ms.config.RestConfig;
+import com.example.chaos.ms.context.CorrelationId;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The interceptor chain of the external API {@code RestTemplate} built by {@link RestConfig},
+ * run against an in-memory request so only the interceptors are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RestInterceptorBenchmark {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private static final URI URL = URI.create("http://localhost:18080/external/info/42");
+
+    private List<ClientHttpRequestInterceptor> interceptors;
+    private final MockClientHttpResponse response = new MockClientHttpResponse(EMPTY_BODY, HttpStatus.OK);
+
+    @Setup
+    public void setUp() {
+        interceptors = new RestConfig().externalApiRestTemplate(new RestTemplateBuilder()).getInterceptors();
+        MDC.put(CorrelationId.MDC_KEY, CorrelationId.generate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public ClientHttpResponse interceptorChain() throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URL);
+        return new Chain(interceptors, response).execute(request, EMPTY_BODY);
+    }
+
+    private static final class Chain implements ClientHttpRequestExecution {
+
+        private final List<ClientHttpRequestInterceptor> interceptors;
+        private final ClientHttpResponse response;
+        private int next;
+
+        private Chain(List<ClientHttpRequestInterceptor> interceptors, ClientHttpResponse response) {
+            this.interceptors = interceptors;
+            this.response = response;
+        }
+
+        @Override
+        public ClientHttpResponse execute(org.springframework.http.HttpRequest request, byte[] body)
+                throws java.io.IOException {
+            if (next < interceptors.size()) {
+                return interceptors.get(next++).intercept(request, body, this);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.chaos.ms.service;
+
+import com.example.chaos.ms.dto.ItemDTO;
+import com.example.chaos.ms.entity.Item;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Service-side work a 304 saves per poll: serializing the cached DTO for {@code GET /api/items/{id}},
+ * and mapping plus serializing every row for {@code GET /api/items}. A matching item poll only builds
+ * and compares the ETag; a matching list poll costs one digest query in Postgres, not measured here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConditionalGetBenchmark {
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private ObjectWriter itemWriter;
+    private ObjectWriter listWriter;
+    private ItemDTO cachedItem;
+    private List<Item> items;
+    private String itemETag;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        itemWriter = objectMapper.writerFor(ItemDTO.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ItemDTO.class));
+
+        cachedItem = new ItemDTO(42L, "Item-42", 123.45, 3L);
+        items = LongStream.rangeClosed(1, listSize)
+                .mapToObj(id -> Item.builder().id(id).name("Item-" + id).value(id * 1.5).version(0L).build())
+                .toList();
+        itemETag = ItemService.itemETag(cachedItem);
+    }
+
+    @Benchmark
+    public byte[] itemFullResponse() throws Exception {
+        return itemWriter.writeValueAsBytes(cachedItem);
+    }
+
+    @Benchmark
+    public boolean itemNotModified() {
+        return itemETag.equals(ItemService.itemETag(cachedItem));
+    }
+
+    @Benchmark
+    public byte[] listFullResponse() throws Exception {
+        return listWriter.writeValueAsBytes(items.stream().map(ItemService::mapToDTO).toList());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.chaos.ms.service;
+
+import com.example.chaos.ms.dto.ItemDTO;
+import com.example.chaos.ms.entity.Item;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every item read from Postgres. Lives in the service package
+ * because {@code ItemService.mapToDTO} is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemMappingBenchmark {
+
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        item = Item.builder().id(42L).name("Item-42").value(123.45).version(0L).build();
+    }
+
+    @Benchmark
+    public ItemDTO mapToDTO() {
+        return ItemService.mapToDTO(item);
+    }
+}
@@ -0,0 +1,101 @@
+#!/bin/bash
+
+# Measures what ETag revalidation saves for clients that poll unchanged items. After seeding
+# ITEMS items, each endpoint gets REQUESTS plain GETs and then REQUESTS GETs that send back the
+# ETag from the first response with If-None-Match:
+#   - bytes are what curl read from the socket (headers + body);
+#   - latency is curl's total time per request;
+#   - service CPU is the process.cpu.time delta across the batch, divided by REQUESTS.
+# Usage: ./run.sh compare-etag [items] [requests]
+
+GEN_ENV="infra/.env.generated"
+REPORT="conditional-get-comparison.md"
+
+ITEMS=${1:-1000}
+REQUESTS=${2:-200}
+
+set -e
+source "$GEN_ENV"
+
+MS_URL="http://localhost:$MS_PORT"
+
+# Prints the service's process CPU time in milliseconds
+cpu_millis() {
+  curl -s "$MS_URL/actuator/metrics/process.cpu.time" \
+    | sed -nE 's/.*"baseUnit":"([a-z]+)".*"value":([0-9.E+-]+).*/\1 \2/p' \
+    | awk '{ f = ($1 == "seconds") ? 1000 : ($1 == "milliseconds" ? 1 : 1e-6); printf "%.3f\n", $2 * f }'
+}
+
+# Prints "<median s> <p99 s>" for a file of "<status> <bytes> <seconds>" lines
+summarize() {
+  sort -k3 -n "$1" | awk '
+    { t[NR] = $3 }
+    END {
+      p99 = t[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1]
+      printf "%.4f %.4f\n", t[int((NR + 1) / 2)], p99
+    }'
+}
+
+run_batch() {
+  local endpoint=$1 label=$2 etag=$3
+  local out_file
+  out_file=$(mktemp)
+
+  local cpu_before cpu_after
+  cpu_before=$(cpu_millis)
+  for _ in $(seq "$REQUESTS"); do
+    if [ -n "$etag" ]; then
+      curl -s -o /dev/null -H "If-None-Match: $etag" \
+        -w "%{http_code} %{size_header} %{size_download} %{time_total}\n" "$MS_URL$endpoint"
+    else
+      curl -s -o /dev/null -w "%{http_code} %{size_header} %{size_download} %{time_total}\n" "$MS_URL$endpoint"
+    fi
+  done | awk '{ print $1, $2 + $3, $4 }' > "$out_file"
+  cpu_after=$(cpu_millis)
+
+  local status bytes median p99 cpu
+  status=$(awk '{ print $1 }' "$out_file" | sort | uniq -c | awk '{ printf "%s%s x%s", sep, $2, $1; sep = ", " }')
+  bytes=$(awk '{ sum += $2 } END { printf "%.0f", sum / NR }' "$out_file")
+  read -r median p99 <<< "$(summarize "$out_file")"
+  if [ -n "$cpu_before" ] && [ -n "$cpu_after" ]; then
+    cpu=$(awk -v b="$cpu_before" -v a="$cpu_after" -v n="$REQUESTS" 'BEGIN { printf "%.3f", (a - b) / n }')
+  else
+    cpu="n/a"
+  fi
+  echo "| \`$endpoint\` | $label | $status | $bytes | $median | $p99 | $cpu |" >> "$REPORT"
+
+  rm -f "$out_file"
+}
+
+run_endpoint() {
+  local endpoint=$1
+  local etag
+  etag=$(curl -s -D - -o /dev/null "$MS_URL$endpoint" | sed -nE 's/^[Ee][Tt]ag: (.*)\r?$/\1/p' | tr -d '\r')
+  if [ -z "$etag" ]; then
+    echo "No ETag on $endpoint, skipping"
+    return
+  fi
+  run_batch "$endpoint" "full" ""
+  run_batch "$endpoint" "If-None-Match" "$etag"
+}
+
+echo "Seeding $ITEMS items..."
+batch=$(seq "$ITEMS" | awk '{ printf "%s{\"name\":\"etag-item-%d\",\"value\":%d.5}", (NR > 1 ? "," : ""), $1, $1 }')
+first_id=$(curl -s -X POST "$MS_URL/api/items/batch" -H "Content-Type: application/json" -d "[$batch]" \
+  | sed -E 's/^\[\{"id":([0-9]+).*/\1/')
+
+{
+  echo "# Conditional GET Comparison"
+  echo
+  echo "$REQUESTS requests per row against $ITEMS seeded items ($(date))."
+  echo "Bytes are per response, headers included. CPU is service process CPU time per request."
+  echo
+  echo "| Endpoint | Request | Status | Bytes | Median (s) | p99 (s) | CPU (ms/req) |"
+  echo "|----------|---------|--------|-------|------------|---------|--------------|"
+} > "$REPORT"
+
+run_endpoint "/api/items/$first_id"
+run_endpoint "/api/items?after=$((first_id - 1))&limit=$ITEMS"
+run_endpoint "/api/items"
+
+cat "$REPORT"
@@ -0,0 +1,85 @@
+#!/bin/bash
+
+# Compares cold-start time of the standard image against the fast-startup image (Spring AOT +
+# CDS archive, see service/Dockerfile). For each mode the ms container is recreated from that
+# build target, an item is seeded, and then RUNS times:
+#   - the container is stopped and started again;
+#   - GET /api/items/<id> is polled until the first 200, measured from `docker start`;
+#   - the "Started ... in N seconds" JVM-reported time is read from the container log.
+# Usage: ./run.sh compare-startup [runs]
+
+PROJECT_NAME="chaos-spring-ms"
+COMPOSE_FILE="infra/docker-compose.yml"
+GEN_ENV="infra/.env.generated"
+REPORT="startup-comparison.md"
+
+RUNS=${1:-5}
+
+set -e
+source infra/wait-for-health.sh
+source "$GEN_ENV"
+
+MS_URL="http://localhost:$MS_PORT"
+
+# Prints "<median> <min> <max>" for a file with one number per line
+summarize() {
+  sort -n "$1" | awk '
+    { v[NR] = $1 }
+    END { printf "%.2f %.2f %.2f\n", v[int((NR + 1) / 2)], v[1], v[NR] }'
+}
+
+run_mode() {
+  local target=$1
+  local first_ok_file started_file
+  first_ok_file=$(mktemp)
+  started_file=$(mktemp)
+
+  echo "Recreating microservice from build target '$target'..."
+  MS_BUILD_TARGET=$target docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d --build ms
+  wait_for_docker_health "chaos-ms"
+
+  local item_id
+  item_id=$(curl -s -X POST "$MS_URL/api/items" -H "Content-Type: application/json" \
+    -d '{"name":"startup-probe","value":1.0}' | sed -E 's/.*"id":([0-9]+).*/\1/')
+
+  for run in $(seq "$RUNS"); do
+    docker stop chaos-ms > /dev/null
+    local start end since
+    since=$(date -u +%Y-%m-%dT%H:%M:%S)
+    start=$(date +%s%N)
+    docker start chaos-ms > /dev/null
+    until [ "$(curl -s -o /dev/null --max-time 1 -w "%{http_code}" "$MS_URL/api/items/$item_id")" == "200" ]; do
+      sleep 0.05
+    done
+    end=$(date +%s%N)
+    awk -v s="$start" -v e="$end" 'BEGIN { printf "%.2f\n", (e - s) / 1e9 }' >> "$first_ok_file"
+    docker logs --since "$since" chaos-ms 2>&1 \
+      | sed -nE 's/.*Started [A-Za-z]+ in ([0-9.]+) seconds.*/\1/p' | tail -1 >> "$started_file"
+    echo "  run $run: $(tail -1 "$first_ok_file")s to first 200"
+  done
+
+  read -r ok_median ok_min ok_max <<< "$(summarize "$first_ok_file")"
+  read -r started_median _ _ <<< "$(summarize "$started_file")"
+  echo "| $target | $RUNS | $ok_median | $ok_min | $ok_max | $started_median |" >> "$REPORT"
+
+  rm -f "$first_ok_file" "$started_file"
+}
+
+{
+  echo "# Startup Comparison"
+  echo
+  echo "Time from \`docker start\` to the first 200 from \`GET /api/items/<id>\`, $RUNS restarts per mode ($(date))."
+  echo "\"JVM started\" is the time Spring Boot reports in its \`Started ... in N seconds\` log line."
+  echo
+  echo "| Mode | Runs | First 200 median (s) | Min (s) | Max (s) | JVM started median (s) |"
+  echo "|------|------|----------------------|---------|---------|------------------------|"
+} > "$REPORT"
+
+run_mode standard
+run_mode fast-startup
+
+echo "Restoring standard image..."
+docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d ms
+wait_for_docker_health "chaos-ms"
+
+cat "$REPORT"
@@ -0,0 +1,100 @@
+#!/bin/bash
+
+# Compares platform-thread and virtual-thread request handling while the DB latency toxic
+# (Scenario 1) is active. For each mode the ms container is recreated with
+# VIRTUAL_THREADS_ENABLED set, then:
+#   - REQUESTS DB-bound calls (GET /api/items?limit=10) are fired with CONCURRENCY in flight;
+#   - a DB-free endpoint (/actuator/metrics/jvm.threads.live) is probed alongside to show
+#     whether healthy endpoints queue behind blocked JDBC calls.
+# Usage: ./run.sh compare-threads [requests] [concurrency] [latency_ms]
+
+PROJECT_NAME="chaos-spring-ms"
+COMPOSE_FILE="infra/docker-compose.yml"
+GEN_ENV="infra/.env.generated"
+REPORT="thread-mode-comparison.md"
+
+REQUESTS=${1:-400}
+CONCURRENCY=${2:-100}
+LATENCY_MS=${3:-1000}
+
+set -e
+source infra/wait-for-health.sh
+source "$GEN_ENV"
+
+MS_URL="http://localhost:$MS_PORT"
+TOXIPROXY_URL="http://localhost:$TOXIPROXY_PORT"
+
+# Prints "<ok> <errors> <p50 s> <p99 s> <max s>" for a file of "<status> <seconds>" lines
+summarize() {
+  sort -k2 -n "$1" | awk '
+    { code[NR] = $1; t[NR] = $2; if ($1 >= 200 && $1 < 400) ok++; else err++ }
+    END {
+      p50 = t[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+      p99 = t[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1]
+      printf "%d %d %.3f %.3f %.3f\n", ok, err, p50, p99, t[NR]
+    }'
+}
+
+run_mode() {
+  local virtual=$1
+  local load_file probe_file
+  load_file=$(mktemp)
+  probe_file=$(mktemp)
+
+  echo "Recreating microservice with VIRTUAL_THREADS_ENABLED=$virtual..."
+  VIRTUAL_THREADS_ENABLED=$virtual docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d ms
+  wait_for_docker_health "chaos-ms"
+
+  # Page reads go to the replica, so slow down both sides
+  for proxy in db_proxy db_replica_proxy; do
+    curl -s -X POST "$TOXIPROXY_URL/proxies/$proxy/toxics" \
+      -d "{\"name\":\"compare-latency\",\"type\":\"latency\",\"stream\":\"downstream\",\"attributes\":{\"latency\":$LATENCY_MS}}" > /dev/null
+  done
+
+  local start end
+  start=$(date +%s%N)
+  seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} \
+    curl -s -o /dev/null --max-time 60 -w "%{http_code} %{time_total}\n" "$MS_URL/api/items?limit=10" > "$load_file" &
+  local load_pid=$!
+  while kill -0 "$load_pid" 2> /dev/null; do
+    curl -s -o /dev/null --max-time 60 -w "%{http_code} %{time_total}\n" "$MS_URL/actuator/metrics/jvm.threads.live" >> "$probe_file"
+    sleep 0.2
+  done
+  end=$(date +%s%N)
+
+  for proxy in db_proxy db_replica_proxy; do
+    curl -s -X DELETE "$TOXIPROXY_URL/proxies/$proxy/toxics/compare-latency" > /dev/null
+  done
+
+  local elapsed
+  elapsed=$(awk -v s="$start" -v e="$end" 'BEGIN { printf "%.2f", (e - s) / 1e9 }')
+  read -r ok err p50 p99 max <<< "$(summarize "$load_file")"
+  read -r _ _ probe_p50 probe_p99 probe_max <<< "$(summarize "$probe_file")"
+  local throughput
+  throughput=$(awk -v n="$ok" -v s="$elapsed" 'BEGIN { printf "%.1f", n / s }')
+
+  local mode="platform"
+  [ "$virtual" == "true" ] && mode="virtual"
+  echo "| $mode | $elapsed | $throughput | $ok | $err | $p50 | $p99 | $max | $probe_p50 | $probe_p99 | $probe_max |" >> "$REPORT"
+
+  rm -f "$load_file" "$probe_file"
+}
+
+{
+  echo "# Thread Mode Comparison"
+  echo
+  echo "DB latency toxic: ${LATENCY_MS}ms downstream, $REQUESTS requests to \`/api/items?limit=10\` at concurrency $CONCURRENCY ($(date))."
+  echo "Probe columns are a DB-free actuator endpoint polled during the load."
+  echo
+  echo "| Mode | Wall (s) | Throughput (req/s) | OK | Errors | p50 (s) | p99 (s) | Max (s) | Probe p50 (s) | Probe p99 (s) | Probe max (s) |"
+  echo "|------|----------|--------------------|----|--------|---------|---------|---------|---------------|---------------|---------------|"
+} > "$REPORT"
+
+run_mode false
+run_mode true
+
+echo "Restoring default thread mode..."
+docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d ms
+wait_for_docker_health "chaos-ms"
+
+cat "$REPORT"
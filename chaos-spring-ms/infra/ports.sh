@@ -40,5 +40,14 @@ WIREMOCK_PORT=$(find_free_port $((TOXIPROXY_PORT + 1)))
 echo "WIREMOCK_PORT=$WIREMOCK_PORT" >> "$ENV_FILE"
 echo "Allocated WIREMOCK_PORT: $WIREMOCK_PORT"
 
+# MS_PORT_1, MS_PORT_2: extra service instances ("lanes") so chaos scenarios can run in parallel
+LAST_PORT=$WIREMOCK_PORT
+for LANE in 1 2; do
+  LANE_PORT=$(find_free_port $((LAST_PORT + 1)))
+  echo "MS_PORT_$LANE=$LANE_PORT" >> "$ENV_FILE"
+  echo "Allocated MS_PORT_$LANE: $LANE_PORT"
+  LAST_PORT=$LANE_PORT
+done
+
 # Export these for the current session if needed
 # source infra/.env.generated
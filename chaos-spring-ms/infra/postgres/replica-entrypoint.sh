@@ -0,0 +1,16 @@
+#!/bin/sh
+# Streaming replica of chaos-postgres: clones the primary with pg_basebackup on first start, then
+# runs as a hot standby (read-only, continuously replaying the primary's WAL).
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -q -h postgres -U "$POSTGRES_USER"; do
+    echo "Waiting for the primary..."
+    sleep 1
+  done
+  rm -rf "${PGDATA:?}"/*
+  pg_basebackup -h postgres -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream -c fast
+  chmod 0700 "$PGDATA"
+fi
+
+exec postgres
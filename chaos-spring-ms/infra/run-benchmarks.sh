@@ -0,0 +1,47 @@
+#!/bin/bash
+
+# Builds the service, runs the JMH benchmarks module and stores the results as
+# benchmarks/results/jmh-<commit>.json. When a baseline commit (or results file) is given, prints
+# the per-benchmark score change against it.
+# Usage: ./run.sh bench [baseline] [extra JMH args, e.g. -f 1 -wi 1 -i 3 CacheSerializer]
+
+RESULTS_DIR="benchmarks/results"
+
+set -e
+
+BASELINE=$1
+shift || true
+
+COMMIT=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- service benchmarks; then
+  COMMIT="$COMMIT-dirty"
+fi
+RESULT="$RESULTS_DIR/jmh-$COMMIT.json"
+
+echo "Building service and benchmarks..."
+mvn -B -q -f service/pom.xml install -DskipTests
+mvn -B -q -f benchmarks/pom.xml package
+
+mkdir -p "$RESULTS_DIR"
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
+
+if [ -z "$BASELINE" ]; then
+  exit 0
+fi
+BASELINE_FILE="$BASELINE"
+[ -f "$BASELINE_FILE" ] || BASELINE_FILE="$RESULTS_DIR/jmh-$BASELINE.json"
+if [ ! -f "$BASELINE_FILE" ]; then
+  echo "No baseline results at $BASELINE_FILE; run ./run.sh bench on that commit first."
+  exit 1
+fi
+
+# One line per benchmark and parameter set: "<name> <score> <unit>"
+scores() {
+  jq -r '.[] | "\(.benchmark | split(".") | .[-2:] | join("."))\(.params // {} | to_entries | map(":\(.key)=\(.value)") | join("")) \(.primaryMetric.score) \(.primaryMetric.scoreUnit)"' "$1" | sort
+}
+
+echo
+echo "Change against $BASELINE_FILE (lower is better for time units):"
+join <(scores "$BASELINE_FILE") <(scores "$RESULT") | awk '
+  { printf "%-80s %12.1f -> %12.1f %-6s %+7.1f%%\n", $1, $2, $4, $5, ($4 - $2) * 100 / $2 }'
@@ -21,10 +21,11 @@ case "$1" in
     cat "$TEMPLATE_ENV" >> "$GEN_ENV"
 
     echo "Starting infrastructure..."
-    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d --build postgres redis wiremock toxiproxy pumba
+    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d --build postgres postgres-replica redis wiremock toxiproxy pumba
 
     # Wait for core infra
     wait_for_docker_health "chaos-postgres"
+    wait_for_docker_health "chaos-postgres-replica"
     wait_for_docker_health "chaos-redis"
     wait_for_docker_health "chaos-wiremock"
     wait_for_docker_health "chaos-toxiproxy"
@@ -33,16 +34,18 @@ case "$1" in
     source "$GEN_ENV"
     TOXIPROXY_PORT=$TOXIPROXY_PORT ./toxiproxy/bootstrap.sh
 
-    echo "Starting microservice..."
-    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d --build ms
+    echo "Starting microservice lanes..."
+    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" up -d --build ms ms-1 ms-2
 
     # Wait for MS (might be slower due to build)
     wait_for_docker_health "chaos-ms"
+    wait_for_docker_health "chaos-ms-1"
+    wait_for_docker_health "chaos-ms-2"
 
     echo "===================================================="
     echo " STACK IS UP AND HEALTHY"
     echo "===================================================="
-    echo " Microservice: http://localhost:$MS_PORT"
+    echo " Microservice: http://localhost:$MS_PORT (lanes: $MS_PORT_1, $MS_PORT_2)"
     echo " Toxiproxy:    http://localhost:$TOXIPROXY_PORT"
     echo " WireMock:     http://localhost:$WIREMOCK_PORT"
     echo "===================================================="
@@ -55,11 +58,14 @@ case "$1" in
     fi
     source "$GEN_ENV"
     echo "Ensuring clean microservice state..."
-    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" restart ms
+    docker compose -p "$PROJECT_NAME" --env-file "$GEN_ENV" -f "$COMPOSE_FILE" restart ms ms-1 ms-2
     wait_for_docker_health "chaos-ms"
+    wait_for_docker_health "chaos-ms-1"
+    wait_for_docker_health "chaos-ms-2"
 
     echo "Running chaos tests..."
     export MS_URL="http://localhost:$MS_PORT"
+    export MS_LANE_URLS="$MS_URL,http://localhost:$MS_PORT_1,http://localhost:$MS_PORT_2"
     export TOXIPROXY_URL="http://localhost:$TOXIPROXY_PORT"
     export WIREMOCK_URL="http://localhost:$WIREMOCK_PORT"
     mvn -f tests/pom.xml clean test
@@ -67,6 +73,34 @@ case "$1" in
     echo "Done! Report available at: tests/chaos_report.html"
     ;;
 
+  compare-threads)
+    if [ ! -f "$GEN_ENV" ]; then
+      echo "Stack is not up. Run ./run.sh up first."
+      exit 1
+    fi
+    ./infra/compare-thread-modes.sh "${@:2}"
+    ;;
+
+  compare-startup)
+    if [ ! -f "$GEN_ENV" ]; then
+      echo "Stack is not up. Run ./run.sh up first."
+      exit 1
+    fi
+    ./infra/compare-startup.sh "${@:2}"
+    ;;
+
+  compare-etag)
+    if [ ! -f "$GEN_ENV" ]; then
+      echo "Stack is not up. Run ./run.sh up first."
+      exit 1
+    fi
+    ./infra/compare-conditional-get.sh "${@:2}"
+    ;;
+
+  bench)
+    ./infra/run-benchmarks.sh "${@:2}"
+    ;;
+
   down)
     echo "Stopping stack..."
     docker compose -p "$PROJECT_NAME" down --remove-orphans
@@ -77,7 +111,7 @@ case "$1" in
     ;;
 
   *)
-    echo "Usage: ./run.sh {up|chaos|down|logs}"
+    echo "Usage: ./run.sh {up|chaos|compare-threads|compare-startup|compare-etag|bench|down|logs}"
     exit 1
     ;;
 esac
@@ -0,0 +1,20 @@
+package com.example.chaos.ms.cache;
+
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cache that can read or store many entries in one round-trip instead of one call per key.
+ */
+public interface BulkCache {
+
+    /**
+     * Returns the cached values for the given keys; keys without an entry are absent from the map,
+     * and keys cached as "not found" map to {@link NullValue#INSTANCE}.
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    void putAll(Map<?, ?> entries);
+}
@@ -0,0 +1,46 @@
+package com.example.chaos.ms.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of one cached value type for {@link CompactRedisSerializer}.
+ * <p>
+ * {@link #typeId()} identifies the type on the wire and must never be reused. Bump
+ * {@link #version()} whenever the layout changes and keep {@link #read} able to decode the
+ * previous version, so entries written by older replicas stay readable during a rolling deploy.
+ */
+public interface CacheValueCodec<T> {
+
+    byte typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in, int version) throws IOException;
+
+    static void writeNullableString(String value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.chaos.ms.cache;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cache value serializer that writes registered types with their {@link CacheValueCodec} behind a
+ * 4-byte header ({@code magic, flags, typeId, version}) and everything else (e.g. Spring's
+ * {@code NullValue}) with JDK serialization. Payloads larger than the compression threshold are
+ * deflated and prefixed with their original length.
+ * <p>
+ * Reads accept both formats regardless of {@code writeCompact}, and JDK streams never start with
+ * the magic byte, so entries written before the switch keep working. Roll out with
+ * {@code writeCompact=false} first so every replica can read compact entries before any writes them.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    private static final int FLAG_COMPRESSED = 1;
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, CacheValueCodec<?>> codecsById = new HashMap<>();
+    private final JdkSerializationRedisSerializer fallback;
+    private final boolean writeCompact;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(List<CacheValueCodec<?>> codecs, ClassLoader classLoader,
+                                  boolean writeCompact, int compressionThreshold) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codecsById.put(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate cache codec type id " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = new JdkSerializationRedisSerializer(classLoader);
+        this.writeCompact = writeCompact;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) throws SerializationException {
+        CacheValueCodec<Object> codec = value != null && writeCompact
+                ? (CacheValueCodec<Object>) codecsByType.get(value.getClass())
+                : null;
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+            codec.write(value, new DataOutputStream(payload));
+            byte[] raw = payload.toByteArray();
+            boolean compress = raw.length > compressionThreshold;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length + 8);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(compress ? FLAG_COMPRESSED : 0);
+            out.writeByte(codec.typeId());
+            out.writeByte(codec.version());
+            if (compress) {
+                out.writeInt(raw.length);
+                out.write(deflate(raw));
+            } else {
+                out.write(raw);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot encode " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            int flags = in.readUnsignedByte();
+            byte typeId = in.readByte();
+            int version = in.readUnsignedByte();
+            CacheValueCodec<?> codec = codecsById.get(typeId);
+            if (codec == null) {
+                throw new SerializationException("Unknown cache codec type id " + typeId);
+            }
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                int length = in.readInt();
+                in = new DataInputStream(new ByteArrayInputStream(inflate(in.readAllBytes(), length)));
+            }
+            return codec.read(in, version);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Cannot decode cached value", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                read += n;
+            }
+            return raw;
+        } finally {
+            inflater.end();
+        }
+    }
+}
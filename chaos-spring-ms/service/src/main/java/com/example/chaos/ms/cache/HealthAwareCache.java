@@ -0,0 +1,185 @@
+package com.example.chaos.ms.cache;
+
+import com.example.chaos.ms.metrics.StageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Guards a Redis-backed cache with {@link RedisCacheHealth}: every operation's latency and failures
+ * are reported (loads via {@link #get(Object, Callable)} are timed by {@link PipelinedRedisCache}
+ * itself), and while the health tracker is in bypass reads are misses, loads go straight to
+ * the loader (still coalesced per key by {@link PipelinedRedisCache}) and writes are skipped. Entries missed while bypassed are bounded by the Redis TTL.
+ */
+public class HealthAwareCache implements Cache, BulkCache {
+
+    private final Cache delegate;
+    private final RedisCacheHealth health;
+    private final StageMetrics stageMetrics;
+    private final Counter bypassedReads;
+    private final Counter bypassedWrites;
+
+    public HealthAwareCache(Cache delegate, RedisCacheHealth health, StageMetrics stageMetrics,
+                            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.health = health;
+        this.stageMetrics = stageMetrics;
+        this.bypassedReads = bypassed(meterRegistry, delegate.getName(), "read");
+        this.bypassedWrites = bypassed(meterRegistry, delegate.getName(), "write");
+    }
+
+    private static Counter bypassed(MeterRegistry registry, String cacheName, String operation) {
+        return Counter.builder("cache.redis.bypassed")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (health.isBypassed()) {
+            bypassedReads.increment();
+            return null;
+        }
+        return timed("get", () -> delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (health.isBypassed()) {
+            bypassedReads.increment();
+            return null;
+        }
+        return timed("get", () -> delegate.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (health.isBypassed()) {
+            bypassedReads.increment();
+            if (delegate instanceof PipelinedRedisCache pipelined) {
+                return pipelined.loadUncached(key, valueLoader);
+            }
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        // PipelinedRedisCache reports its own lookup, excluding the loader and coalesced waits
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (health.isBypassed()) {
+            bypassedWrites.increment();
+            return;
+        }
+        timed("put", () -> {
+            delegate.put(key, value);
+            return null;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (health.isBypassed()) {
+            bypassedWrites.increment();
+            return null;
+        }
+        return timed("put", () -> delegate.putIfAbsent(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (health.isBypassed()) {
+            bypassedWrites.increment();
+            return;
+        }
+        timed("evict", () -> {
+            delegate.evict(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        if (health.isBypassed()) {
+            bypassedWrites.increment();
+            return;
+        }
+        timed("clear", () -> {
+            delegate.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (health.isBypassed()) {
+            bypassedReads.increment();
+            return new HashMap<>();
+        }
+        if (delegate instanceof BulkCache bulkCache) {
+            return timed("getAll", () -> bulkCache.getAll(keys));
+        }
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                found.put(key, wrapper.get() != null ? wrapper.get() : NullValue.INSTANCE);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (health.isBypassed()) {
+            bypassedWrites.increment();
+            return;
+        }
+        timed("putAll", () -> {
+            if (delegate instanceof BulkCache bulkCache) {
+                bulkCache.putAll(entries);
+            } else {
+                entries.forEach(delegate::put);
+            }
+            return null;
+        });
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - start;
+            health.recordSuccess(elapsed);
+            stageMetrics.record("cache", elapsed, "cache", getName(), "operation", operation, "outcome", "success");
+            return result;
+        } catch (RuntimeException e) {
+            health.recordFailure();
+            stageMetrics.record("cache", System.nanoTime() - start,
+                    "cache", getName(), "operation", operation, "outcome", "error");
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.chaos.ms.cache;
+
+import com.example.chaos.ms.dto.ItemDTO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Version 2 layout: a presence bitmask (id, name, value, version), then the present fields in that
+ * order. Version 1 is the same without the version bit; those entries read back with no version.
+ */
+public class ItemDTOCodec implements CacheValueCodec<ItemDTO> {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_VALUE = 1 << 2;
+    private static final int HAS_VERSION = 1 << 3;
+
+    @Override
+    public byte typeId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public Class<ItemDTO> type() {
+        return ItemDTO.class;
+    }
+
+    @Override
+    public void write(ItemDTO item, DataOutput out) throws IOException {
+        int present = (item.getId() != null ? HAS_ID : 0)
+                | (item.getName() != null ? HAS_NAME : 0)
+                | (item.getValue() != null ? HAS_VALUE : 0)
+                | (item.getVersion() != null ? HAS_VERSION : 0);
+        out.writeByte(present);
+        if (item.getId() != null) {
+            out.writeLong(item.getId());
+        }
+        if (item.getName() != null) {
+            CacheValueCodec.writeNullableString(item.getName(), out);
+        }
+        if (item.getValue() != null) {
+            out.writeDouble(item.getValue());
+        }
+        if (item.getVersion() != null) {
+            out.writeLong(item.getVersion());
+        }
+    }
+
+    @Override
+    public ItemDTO read(DataInput in, int version) throws IOException {
+        if (version != 1 && version != 2) {
+            throw new IOException("Unsupported ItemDTO codec version " + version);
+        }
+        int present = in.readUnsignedByte();
+        ItemDTO item = new ItemDTO();
+        if ((present & HAS_ID) != 0) {
+            item.setId(in.readLong());
+        }
+        if ((present & HAS_NAME) != 0) {
+            item.setName(CacheValueCodec.readNullableString(in));
+        }
+        if ((present & HAS_VALUE) != 0) {
+            item.setValue(in.readDouble());
+        }
+        if ((present & HAS_VERSION) != 0) {
+            item.setVersion(in.readLong());
+        }
+        return item;
+    }
+}
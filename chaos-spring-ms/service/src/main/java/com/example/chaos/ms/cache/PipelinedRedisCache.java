@@ -0,0 +1,195 @@
+package com.example.chaos.ms.cache;
+
+import com.example.chaos.ms.metrics.StageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RedisCache} with bulk operations: {@link #getAll(Collection)} is a single MGET and
+ * {@link #putAll(Map)} writes every entry through one pipelined connection, using the same key
+ * prefix, value serializer and TTL as a regular {@code put}.
+ * <p>
+ * {@link #get(Object, Callable)} coalesces concurrent misses for a key into one load and
+ * refreshes entries ahead of expiry with probability rising as the TTL runs out (XFetch:
+ * refresh when {@code loadTime * beta * -ln(rand) >= remainingTtl}), so hot keys are reloaded
+ * in the background before they expire instead of stampeding the database. The pipelined lookup
+ * is reported to {@link RedisCacheHealth} on its own, so database load time never counts as Redis
+ * latency.
+ */
+public class PipelinedRedisCache extends RedisCache implements BulkCache {
+
+    private static final double LOAD_TIME_SMOOTHING = 0.2;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final SingleFlight<String, Object> loads;
+    private final Executor refreshExecutor;
+    private final double earlyRefreshBeta;
+    private final Counter earlyRefreshes;
+    private final Counter negativeHits;
+    private final RedisCacheHealth health;
+    private final StageMetrics stageMetrics;
+    private volatile double loadMillis;
+
+    protected PipelinedRedisCache(String name, RedisCacheWriter cacheWriter,
+                                  RedisCacheConfiguration cacheConfiguration,
+                                  RedisConnectionFactory connectionFactory,
+                                  MeterRegistry meterRegistry,
+                                  Executor refreshExecutor,
+                                  double earlyRefreshBeta,
+                                  RedisCacheHealth health,
+                                  StageMetrics stageMetrics) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.health = health;
+        this.stageMetrics = stageMetrics;
+        this.connectionFactory = connectionFactory;
+        this.loads = new SingleFlight<>("cache." + name, meterRegistry);
+        this.refreshExecutor = refreshExecutor;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.earlyRefreshes = Counter.builder("cache.early.refreshes")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.negativeHits = TwoTierCache.negativeHits(meterRegistry, name, "l2");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        byte[] binaryKey = serializeCacheKey(createCacheKey(key));
+        List<Object> results;
+        long start = System.nanoTime();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            connection.stringCommands().get(binaryKey);
+            connection.keyCommands().pTtl(binaryKey);
+            results = connection.closePipeline();
+        } catch (RuntimeException e) {
+            health.recordFailure();
+            stageMetrics.record("cache", System.nanoTime() - start,
+                    "cache", getName(), "operation", "get", "outcome", "error");
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        health.recordSuccess(elapsed);
+        stageMetrics.record("cache", elapsed, "cache", getName(), "operation", "get", "outcome", "success");
+
+        byte[] cached = (byte[]) results.get(0);
+        if (cached == null) {
+            return (T) load(key, valueLoader);
+        }
+        if (shouldRefreshEarly((Long) results.get(1))) {
+            earlyRefreshes.increment();
+            loads.executeAsync(createCacheKey(key), () -> loadAndPut(key, valueLoader), refreshExecutor);
+        }
+        Object value = fromStoreValue(deserializeCacheValue(cached));
+        if (value == null) {
+            negativeHits.increment();
+        }
+        return (T) value;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        return loads.execute(createCacheKey(key), () -> loadAndPut(key, valueLoader));
+    }
+
+    /**
+     * Loads without touching Redis, for use while it is bypassed. Goes through the same per-key
+     * single-flight as {@link #get(Object, Callable)}, so a hot key still costs one database load.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T loadUncached(Object key, Callable<T> valueLoader) {
+        return (T) loads.execute(createCacheKey(key), () -> {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+        loadMillis = loadMillis == 0 ? elapsedMillis
+                : loadMillis + LOAD_TIME_SMOOTHING * (elapsedMillis - loadMillis);
+        return value;
+    }
+
+    private boolean shouldRefreshEarly(Long ttlMillis) {
+        if (earlyRefreshBeta <= 0 || ttlMillis == null || ttlMillis <= 0 || loadMillis == 0) {
+            return false;
+        }
+        double gap = -loadMillis * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= ttlMillis;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        List<Object> orderedKeys = new ArrayList<>(keys);
+        byte[][] binaryKeys = orderedKeys.stream()
+                .map(key -> serializeCacheKey(createCacheKey(key)))
+                .toArray(byte[][]::new);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            List<byte[]> values = connection.stringCommands().mGet(binaryKeys);
+            for (int i = 0; values != null && i < values.size(); i++) {
+                byte[] value = values.get(i);
+                if (value != null) {
+                    Object stored = deserializeCacheValue(value);
+                    found.put(orderedKeys.get(i), stored instanceof NullValue ? NullValue.INSTANCE : fromStoreValue(stored));
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> {
+                Object storeValue = preProcessCacheValue(value);
+                Duration ttl = getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+                Expiration expiration = ttl == null || ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+                connection.stringCommands().set(
+                        serializeCacheKey(createCacheKey(key)),
+                        serializeCacheValue(storeValue),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert());
+            });
+            connection.closePipeline();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.chaos.ms.cache;
+
+import com.example.chaos.ms.metrics.StageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.concurrent.Executor;
+
+public class PipelinedRedisCacheManager extends RedisCacheManager {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final double earlyRefreshBeta;
+    private final RedisCacheHealth health;
+    private final StageMetrics stageMetrics;
+
+    public PipelinedRedisCacheManager(RedisConnectionFactory connectionFactory,
+                                      RedisCacheConfiguration defaultCacheConfiguration,
+                                      MeterRegistry meterRegistry,
+                                      Executor refreshExecutor,
+                                      double earlyRefreshBeta,
+                                      RedisCacheHealth health,
+                                      StageMetrics stageMetrics) {
+        super(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), defaultCacheConfiguration);
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.health = health;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        return new PipelinedRedisCache(name, getCacheWriter(), cacheConfiguration, connectionFactory,
+                meterRegistry, refreshExecutor, earlyRefreshBeta, health, stageMetrics);
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        return super.decorateCache(new HealthAwareCache(cache, health, stageMetrics, meterRegistry));
+    }
+}
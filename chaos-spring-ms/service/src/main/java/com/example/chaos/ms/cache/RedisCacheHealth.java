@@ -0,0 +1,108 @@
+package com.example.chaos.ms.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks Redis cache latency and trips into bypass after {@code failureThreshold} consecutive
+ * failed or slow operations, so cache reads go straight to the database instead of waiting on
+ * Redis. While bypassed a background probe pings Redis and the cache is re-enabled after
+ * {@code recoveryProbes} consecutive fast pings.
+ */
+@Slf4j
+public class RedisCacheHealth implements AutoCloseable {
+
+    public enum State { HEALTHY, BYPASS }
+
+    private final RedisConnectionFactory connectionFactory;
+    private final long slowThresholdNanos;
+    private final int failureThreshold;
+    private final int recoveryProbes;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService prober;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile State state = State.HEALTHY;
+    private int consecutiveProbeSuccesses;
+
+    public RedisCacheHealth(RedisConnectionFactory connectionFactory, Duration slowThreshold, int failureThreshold,
+                            Duration probeInterval, int recoveryProbes, MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.failureThreshold = failureThreshold;
+        this.recoveryProbes = recoveryProbes;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("cache.redis.bypass", this, health -> health.isBypassed() ? 1 : 0)
+                .description("1 while Redis cache operations are bypassed")
+                .register(meterRegistry);
+        this.prober = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("redis-cache-probe").daemon().factory());
+        prober.scheduleWithFixedDelay(this::probe, probeInterval.toMillis(), probeInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isBypassed() {
+        return state == State.BYPASS;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void recordSuccess(long nanos) {
+        if (nanos > slowThresholdNanos) {
+            recordFailure();
+        } else {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            transitionTo(State.BYPASS);
+        }
+    }
+
+    private void probe() {
+        if (state != State.BYPASS) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean fast;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            fast = System.nanoTime() - start <= slowThresholdNanos;
+        } catch (Exception e) {
+            fast = false;
+        }
+        consecutiveProbeSuccesses = fast ? consecutiveProbeSuccesses + 1 : 0;
+        if (consecutiveProbeSuccesses >= recoveryProbes) {
+            consecutiveProbeSuccesses = 0;
+            consecutiveFailures.set(0);
+            transitionTo(State.HEALTHY);
+        }
+    }
+
+    private synchronized void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("Redis cache {} -> {}", state, next);
+        state = next;
+        meterRegistry.counter("cache.redis.transitions", "state", next.name().toLowerCase()).increment();
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.chaos.ms.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Per-key in-flight deduplication: concurrent callers for the same key share the result of a
+ * single load instead of each running it.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.loads = calls(meterRegistry, name, "loaded");
+        this.coalesced = calls(meterRegistry, name, "coalesced");
+    }
+
+    private static Counter calls(MeterRegistry registry, String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts a load on {@code executor} unless one is already in flight for the key. Rejected
+     * submissions are dropped, so this is only suitable for best-effort work such as refreshes.
+     */
+    public void executeAsync(K key, Supplier<V> loader, Executor executor) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(key, loader);
+                } catch (RuntimeException ignored) {
+                    // Background loads never fail a caller; the next foreground miss retries
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // Executor saturated, skip this refresh
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
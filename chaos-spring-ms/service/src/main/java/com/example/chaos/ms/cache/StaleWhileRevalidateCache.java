@@ -0,0 +1,108 @@
+package com.example.chaos.ms.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache with a soft and a hard TTL. Entries younger than the soft TTL are served as is;
+ * older ones are still served immediately while a background revalidation reloads them. Entries
+ * are dropped once the hard TTL passes. Loads and revalidations for a key are coalesced, and only
+ * values accepted by the {@code cacheable} predicate are stored.
+ */
+public class StaleWhileRevalidateCache<K, V> {
+
+    private record Entry<V>(V value, long loadedAtNanos) {
+    }
+
+    private final Cache<K, Entry<V>> entries;
+    private final long softTtlNanos;
+    private final SingleFlight<K, V> loads;
+    private final Executor revalidationExecutor;
+    private final Predicate<V> cacheable;
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter misses;
+
+    public StaleWhileRevalidateCache(String name, Duration softTtl, Duration hardTtl, long maximumSize,
+                                     Executor revalidationExecutor, Predicate<V> cacheable,
+                                     MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(hardTtl)
+                .build();
+        this.softTtlNanos = softTtl.toNanos();
+        this.loads = new SingleFlight<>(name, meterRegistry);
+        this.revalidationExecutor = revalidationExecutor;
+        this.cacheable = cacheable;
+        this.fresh = requests(meterRegistry, name, "fresh");
+        this.stale = requests(meterRegistry, name, "stale");
+        this.misses = requests(meterRegistry, name, "miss");
+    }
+
+    private static Counter requests(MeterRegistry registry, String name, String result) {
+        return Counter.builder("swr.requests")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Returns the cached value, loading it with {@code loader} on a miss. Stale entries are
+     * revalidated in the background with the same loader; a failed revalidation keeps the stale
+     * value until the hard TTL.
+     */
+    public V get(K key, Supplier<V> loader) {
+        return lookup(key, loader).orElseGet(() -> loads.execute(key, () -> store(key, loader.get())));
+    }
+
+    /**
+     * Returns the cached value if there is one, scheduling a background revalidation with
+     * {@code revalidator} when it is past the soft TTL. Misses are left to the caller, who should
+     * {@link #put} the value it loads.
+     */
+    public Optional<V> lookup(K key, Supplier<V> revalidator) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entry.loadedAtNanos() < softTtlNanos) {
+            fresh.increment();
+        } else {
+            stale.increment();
+            loads.executeAsync(key, () -> store(key, revalidator.get()), revalidationExecutor);
+        }
+        return Optional.of(entry.value());
+    }
+
+    public void put(K key, V value) {
+        store(key, value);
+    }
+
+    /**
+     * Last value loaded for the key within the hard TTL, regardless of the soft TTL.
+     */
+    public Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(entries.getIfPresent(key)).map(Entry::value);
+    }
+
+    private V store(K key, V value) {
+        if (value == null || !cacheable.test(value)) {
+            return value;
+        }
+        Entry<V> current = entries.getIfPresent(key);
+        // A fallback that hands back the cached instance must not renew its age
+        if (current == null || current.value() != value) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.chaos.ms.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process L1 (Caffeine) in front of a shared L2 (Redis) cache. Local entries are keyed by the
+ * string form of the cache key so they line up with the keys carried on invalidation messages.
+ */
+public class TwoTierCache implements Cache, BulkCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final BiConsumer<String, Collection<String>> invalidationPublisher;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l1NegativeHits;
+    private final Counter l2NegativeHits;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                        Cache remote,
+                        BiConsumer<String, Collection<String>> invalidationPublisher,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.l1Hits = requests(meterRegistry, "l1", "hit");
+        this.l1Misses = requests(meterRegistry, "l1", "miss");
+        this.l2Hits = requests(meterRegistry, "l2", "hit");
+        this.l2Misses = requests(meterRegistry, "l2", "miss");
+        this.l1NegativeHits = negativeHits(meterRegistry, name, "l1");
+        this.l2NegativeHits = negativeHits(meterRegistry, name, "l2");
+    }
+
+    static Counter negativeHits(MeterRegistry registry, String cacheName, String tier) {
+        return Counter.builder("cache.negative.hits")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .register(registry);
+    }
+
+    private Counter requests(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.near.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            if (cached.get() == null) {
+                l1NegativeHits.increment();
+            }
+            return cached;
+        }
+        l1Misses.increment();
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            l2Hits.increment();
+            if (loaded.get() == null) {
+                l2NegativeHits.increment();
+            }
+            local.put(localKey, new SimpleValueWrapper(loaded.get()));
+        } else {
+            l2Misses.increment();
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            if (cached.get() == null) {
+                l1NegativeHits.increment();
+            }
+            return (T) cached.get();
+        }
+        l1Misses.increment();
+
+        // No separate L2 probe: the remote's own lookup does the single-flight load and early refresh.
+        // A call counts as an L2 miss when its loader ran.
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = remote.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (loaded.get()) {
+            l2Misses.increment();
+        } else {
+            l2Hits.increment();
+            if (value == null) {
+                l2NegativeHits.increment();
+            }
+        }
+        local.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(name, List.of(localKey(key)));
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper cached = local.getIfPresent(localKey(key));
+            if (cached != null) {
+                l1Hits.increment();
+                if (cached.get() == null) {
+                    l1NegativeHits.increment();
+                }
+                found.put(key, cached.get() != null ? cached.get() : NullValue.INSTANCE);
+            } else {
+                l1Misses.increment();
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<Object, Object> loaded;
+        if (remote instanceof BulkCache bulkRemote) {
+            loaded = bulkRemote.getAll(missing);
+        } else {
+            loaded = new HashMap<>();
+            missing.forEach(key -> {
+                ValueWrapper wrapper = remote.get(key);
+                if (wrapper != null) {
+                    loaded.put(key, wrapper.get() != null ? wrapper.get() : NullValue.INSTANCE);
+                }
+            });
+        }
+        loaded.forEach((key, value) -> {
+            if (value instanceof NullValue) {
+                l2NegativeHits.increment();
+            }
+            local.put(localKey(key), new SimpleValueWrapper(value instanceof NullValue ? null : value));
+        });
+        l2Hits.increment(loaded.size());
+        l2Misses.increment(missing.size() - loaded.size());
+        found.putAll(loaded);
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (remote instanceof BulkCache bulkRemote) {
+            bulkRemote.putAll(entries);
+        } else {
+            entries.forEach(remote::put);
+        }
+        List<String> keys = entries.entrySet().stream()
+                .map(entry -> {
+                    String localKey = localKey(entry.getKey());
+                    local.put(localKey, new SimpleValueWrapper(entry.getValue()));
+                    return localKey;
+                })
+                .toList();
+        invalidationPublisher.accept(name, keys);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        local.put(localKey(key), new SimpleValueWrapper(current));
+        if (existing == null) {
+            invalidationPublisher.accept(name, List.of(localKey(key)));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, List.of(localKey(key)));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    void evictLocal(Collection<String> keys) {
+        if (keys == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidateAll(keys);
+        }
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.chaos.ms.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps the Redis cache manager with a bounded in-process L1 per cache. Writes and evictions are
+ * fanned out on a Redis pub/sub channel so other replicas drop their stale L1 entries. Messages
+ * have the form {@code instanceId:cacheName:key1\nkey2...}, with {@code *} meaning "clear all".
+ * While {@link RedisCacheHealth} has Redis bypassed nothing is published, so writes don't wait on
+ * the command timeout; other replicas' L1 entries then age out after their TTL.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private static final String CLEAR_ALL = "*";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisCacheHealth health;
+    private final String channel;
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final Duration negativeTimeToLive;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               RedisCacheHealth health,
+                               String channel,
+                               long maximumSize,
+                               Duration timeToLive,
+                               Duration negativeTimeToLive) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.health = health;
+        this.channel = channel;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.negativeTimeToLive = negativeTimeToLive;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        Counter evictions = Counter.builder("cache.near.evictions")
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Cache.ValueWrapper>() {
+                    @Override
+                    public long expireAfterCreate(String key, Cache.ValueWrapper value, long currentTime) {
+                        return (value.get() == null ? negativeTimeToLive : timeToLive).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Cache.ValueWrapper value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Cache.ValueWrapper value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+
+        Gauge.builder("cache.near.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+
+        return new TwoTierCache(name, local, remote, this::publishInvalidation, meterRegistry);
+    }
+
+    private void publishInvalidation(String cacheName, Collection<String> keys) {
+        if (keys != null && keys.isEmpty()) {
+            return;
+        }
+        if (health.isBypassed()) {
+            invalidations(cacheName, "skipped").increment(keys != null ? keys.size() : 1);
+            return;
+        }
+        String message = instanceId + ":" + cacheName + ":" + (keys != null ? String.join("\n", keys) : CLEAR_ALL);
+        try {
+            redisTemplate.convertAndSend(channel, message);
+            invalidations(cacheName, "sent").increment(keys != null ? keys.size() : 1);
+        } catch (Exception e) {
+            log.warn("Failed to publish near-cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        Collection<String> keys = CLEAR_ALL.equals(parts[2]) ? null : Arrays.asList(parts[2].split("\n"));
+        cache.evictLocal(keys);
+        invalidations(parts[1], "received").increment(keys != null ? keys.size() : 1);
+    }
+
+    private Counter invalidations(String cacheName, String direction) {
+        return Counter.builder("cache.near.invalidations")
+                .tag("cache", cacheName)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
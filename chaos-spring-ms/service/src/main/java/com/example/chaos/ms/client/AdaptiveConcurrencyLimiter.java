@@ -0,0 +1,91 @@
+package com.example.chaos.ms.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit for a downstream dependency. Calls that complete within the latency
+ * threshold while at least half the limit is in use grow the limit by one; calls that fail or
+ * exceed the threshold shrink it by the backoff ratio. Calls beyond the current limit are rejected
+ * immediately instead of piling up behind a slow dependency.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, boolean enabled, int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, double backoffRatio, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.rejected = Counter.builder("concurrency.limiter.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.inflight", inFlight, AtomicInteger::get)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Acquires a slot or throws {@link ConcurrencyLimitExceededException}. The returned permit
+     * must be completed exactly once.
+     */
+    public Permit acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (enabled && current >= getLimit()) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException(name, getLimit());
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return new Permit(System.nanoTime(), current + 1);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean failed) {
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void complete(boolean failed) {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, failed);
+        }
+    }
+}
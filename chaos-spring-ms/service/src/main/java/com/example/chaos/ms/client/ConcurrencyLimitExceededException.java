@@ -0,0 +1,17 @@
+package com.example.chaos.ms.client;
+
+/**
+ * Thrown when a call is shed by the {@link AdaptiveConcurrencyLimiter}. The externalApi circuit
+ * breaker ignores it, so shed calls go to the fallback without counting as upstream failures.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String name, int limit) {
+        super("Concurrency limit of " + limit + " reached for " + name);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
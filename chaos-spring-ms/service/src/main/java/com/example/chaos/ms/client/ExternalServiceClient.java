@@ -1,19 +1,39 @@
 package com.example.chaos.ms.client;
 
+import com.example.chaos.ms.cache.SingleFlight;
+import com.example.chaos.ms.cache.StaleWhileRevalidateCache;
 import com.example.chaos.ms.dto.ExternalInfoDTO;
+import com.example.chaos.ms.metrics.StageMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ExternalServiceClient {
 
+    public static final String FALLBACK_STATUS = "ERROR";
+
     private final RestTemplate restTemplate;
+    private final AsyncTaskExecutor externalCallExecutor;
+    private final SingleFlight<Long, ExternalInfoDTO> externalInfoSingleFlight;
+    private final StaleWhileRevalidateCache<Long, ExternalInfoDTO> externalInfoCache;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimiter externalApiConcurrencyLimiter;
+    private final RequestHedger externalApiHedger;
+    private final StageMetrics stageMetrics;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
 
     @Value("${external.api.base-url}")
     private String externalApiBaseUrl;
@@ -21,16 +41,74 @@ public class ExternalServiceClient {
     @CircuitBreaker(name = "externalApi", fallbackMethod = "externalApiFallback")
     public ExternalInfoDTO fetchExternalInfo(Long id) {
         String url = externalApiBaseUrl + "/external/info/" + id;
-        log.info("Calling external API via client: {}", url);
-        return restTemplate.getForObject(url, ExternalInfoDTO.class);
+        return externalInfoSingleFlight.execute(id, () -> hedgedCall(url));
+    }
+
+    @CircuitBreaker(name = "externalApi", fallbackMethod = "externalApiFallbackAsync")
+    @TimeLimiter(name = "externalApi")
+    public CompletableFuture<ExternalInfoDTO> fetchExternalInfoAsync(Long id) {
+        String url = externalApiBaseUrl + "/external/info/" + id;
+        CompletableFuture<ExternalInfoDTO> result = new CompletableFuture<>();
+        Future<?> call = externalCallExecutor.submit(() -> {
+            try {
+                result.complete(externalInfoSingleFlight.execute(id, () -> hedgedCall(url)));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // CompletableFuture.cancel never interrupts, so a timed-out call would keep its worker and
+        // connection until the read timeout. Interrupting aborts the JDK HttpClient exchange.
+        result.whenComplete((info, t) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private ExternalInfoDTO hedgedCall(String url) {
+        return externalApiHedger.execute(() -> callExternalApi(url));
+    }
+
+    private ExternalInfoDTO callExternalApi(String url) {
+        long start = System.nanoTime();
+        String outcome = "rejected";
+        try {
+            AdaptiveConcurrencyLimiter.Permit permit = externalApiConcurrencyLimiter.acquire();
+            outcome = "error";
+            boolean failed = true;
+            try {
+                log.info("Calling external API via client: {}", url);
+                ExternalInfoDTO externalInfo = restTemplate.getForObject(url, ExternalInfoDTO.class);
+                failed = false;
+                outcome = "success";
+                return externalInfo;
+            } finally {
+                permit.complete(failed);
+            }
+        } finally {
+            stageMetrics.record("external", System.nanoTime() - start, "outcome", outcome,
+                    "breaker", circuitBreakerRegistry.circuitBreaker("externalApi").getState().name().toLowerCase());
+        }
+    }
+
+    public CompletableFuture<ExternalInfoDTO> externalApiFallbackAsync(Long id, Throwable t) {
+        return CompletableFuture.completedFuture(externalApiFallback(id, t));
     }
 
     public ExternalInfoDTO externalApiFallback(Long id, Throwable t) {
+        ExternalInfoDTO lastKnownGood = externalInfoCache.getIfPresent(id).orElse(null);
+        if (lastKnownGood != null) {
+            log.warn("External API fallback for id {} served last known good value: {}", id, t.getMessage());
+            meterRegistry.counter("external.api.fallbacks", "source", "last-known-good").increment();
+            return lastKnownGood;
+        }
         log.error("External API fallback triggered for id {}: {}", id, t.getMessage());
+        meterRegistry.counter("external.api.fallbacks", "source", "default").increment();
         return ExternalInfoDTO.builder()
                 .id(id)
                 .description("Service Unavailable (Fallback)")
-                .status("ERROR")
+                .status(FALLBACK_STATUS)
                 .build();
     }
 }
@@ -0,0 +1,187 @@
+package com.example.chaos.ms.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent calls: the primary attempt runs on the hedging executor and, if it has not
+ * answered within the configured percentile of recent attempt latencies, a second attempt is
+ * started. The first successful answer wins and the other attempt is cancelled (interrupted).
+ * <p>
+ * Hedges are paid for from a token bucket: every call deposits {@code budgetPercent / 100}
+ * tokens and every hedge spends one, so hedges stay below that share of calls over time.
+ */
+public class RequestHedger {
+
+    private static final double MAX_TOKENS = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration initialDelay;
+    private final double tokensPerCall;
+    private final Executor executor;
+
+    private final Timer attemptLatency;
+    private final Timer callLatency;
+    private final Counter primaries;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+    private double tokens = MAX_TOKENS;
+
+    public RequestHedger(String name, boolean enabled, double percentile, Duration minDelay, Duration maxDelay,
+                         Duration initialDelay, double budgetPercent, Executor executor,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.initialDelay = initialDelay;
+        this.tokensPerCall = budgetPercent / 100.0;
+        this.executor = executor;
+        this.attemptLatency = Timer.builder("hedging.attempt.latency")
+                .tag("name", name)
+                .publishPercentiles(percentile)
+                .register(meterRegistry);
+        this.callLatency = Timer.builder("hedging.call.latency")
+                .tag("name", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.primaries = attempts(meterRegistry, name, "primary");
+        this.hedges = attempts(meterRegistry, name, "hedge");
+        this.hedgeWins = Counter.builder("hedging.wins")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("hedging.budget.exhausted")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("hedging.delay", this, hedger -> hedger.hedgeDelay().toNanos() / 1_000_000.0)
+                .tag("name", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private static Counter attempts(MeterRegistry registry, String name, String type) {
+        return Counter.builder("hedging.attempts")
+                .tag("name", name)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return race(attempt);
+        } finally {
+            callLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T race(Supplier<T> attempt) {
+        deposit();
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        FutureTask<Void> primary = submit(attempt, winner, pending, false);
+        FutureTask<Void> hedge = null;
+        try {
+            try {
+                return winner.get(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (withdraw()) {
+                    pending.incrementAndGet();
+                    hedge = submit(attempt, winner, pending, true);
+                } else {
+                    budgetExhausted.increment();
+                }
+                return winner.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for hedged call", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> FutureTask<Void> submit(Supplier<T> attempt, CompletableFuture<T> winner,
+                                        AtomicInteger pending, boolean isHedge) {
+        (isHedge ? hedges : primaries).increment();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = attempt.get();
+                attemptLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (winner.complete(value) && isHedge) {
+                    hedgeWins.increment();
+                }
+            } catch (Throwable t) {
+                // The call only fails once every attempt has failed
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(t);
+                }
+            }
+        }, null);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (isHedge) {
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+            } else {
+                // No capacity to race, run the primary on the caller
+                task.run();
+            }
+        }
+        return task;
+    }
+
+    Duration hedgeDelay() {
+        for (ValueAtPercentile value : attemptLatency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile && value.value() > 0) {
+                long nanos = (long) value.value(TimeUnit.NANOSECONDS);
+                return Duration.ofNanos(Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), nanos)));
+            }
+        }
+        return initialDelay;
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(MAX_TOKENS, tokens + tokensPerCall);
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
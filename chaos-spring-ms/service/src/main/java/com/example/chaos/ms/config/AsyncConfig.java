@@ -0,0 +1,158 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.cache.SingleFlight;
+import com.example.chaos.ms.context.ContextPropagation;
+import com.example.chaos.ms.dto.ExternalInfoDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for internal async work. With {@code spring.threads.virtual.enabled=true} (which also
+ * moves Tomcat request handling onto virtual threads) the request-path executors spawn one
+ * virtual thread per task instead of using a platform-thread pool. Both modes apply the same
+ * limits: at most max size tasks run (the platform pools set core = max, so they don't wait for a
+ * full queue to grow), up to queue capacity more wait, and beyond that submissions are rejected
+ * with {@link RejectedExecutionException} rather than blocking the caller.
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    private static final int MVC_QUEUE_CAPACITY = 100;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${async.mvc.max-size:32}")
+    private int mvcMaxSize;
+
+    @Bean
+    public AsyncTaskExecutor externalCallExecutor(@Value("${async.external.max-size:64}") int maxSize,
+                                                  @Value("${async.external.queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("external-", maxSize, queueCapacity);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("external-");
+        // A pool only grows past its core size once the queue is full, so core = max and idle
+        // threads time out instead
+        executor.setCorePoolSize(maxSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(ContextPropagation.taskDecorator());
+        return executor;
+    }
+
+    @Bean
+    public AsyncTaskExecutor mvcAsyncExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("mvc-async-", mvcMaxSize, MVC_QUEUE_CAPACITY);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setCorePoolSize(mvcMaxSize);
+        executor.setMaxPoolSize(mvcMaxSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(MVC_QUEUE_CAPACITY);
+        executor.setTaskDecorator(ContextPropagation.taskDecorator());
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
+
+    // SimpleAsyncTaskExecutor's own concurrency limit blocks the submitting thread when reached, so
+    // the callers' rejection paths (REJECTED enrichments, skipped hedges) would never fire
+    private AsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int maxSize, int queueCapacity) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(ContextPropagation.taskDecorator());
+        return new BoundedVirtualThreadExecutor(executor, maxSize, queueCapacity);
+    }
+
+    private static final class BoundedVirtualThreadExecutor implements AsyncTaskExecutor {
+
+        private final SimpleAsyncTaskExecutor delegate;
+        private final Semaphore admitted;
+        private final Semaphore running;
+
+        private BoundedVirtualThreadExecutor(SimpleAsyncTaskExecutor delegate, int maxSize, int queueCapacity) {
+            this.delegate = delegate;
+            this.admitted = new Semaphore(maxSize + queueCapacity);
+            this.running = new Semaphore(maxSize);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!admitted.tryAcquire()) {
+                throw new RejectedExecutionException("Executor " + delegate.getThreadNamePrefix() + " is saturated");
+            }
+            try {
+                delegate.execute(() -> {
+                    // Queued tasks park their virtual thread here until a slot frees up
+                    running.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        running.release();
+                        admitted.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(@Value("${async.cache-refresh.size:4}") int size,
+                                                       @Value("${async.cache-refresh.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(ContextPropagation.taskDecorator());
+        return executor;
+    }
+
+    /**
+     * Runs the racing attempts of hedged calls. Kept apart from {@code externalCallExecutor} so
+     * callers already on that pool never wait for work queued behind themselves; it has no queue,
+     * so a saturated pool runs the primary attempt on the caller and skips the hedge.
+     */
+    @Bean
+    public AsyncTaskExecutor hedgingExecutor(@Value("${async.hedging.max-size:64}") int maxSize) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("hedging-", maxSize, 0);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("hedging-");
+        executor.setCorePoolSize(Math.min(8, maxSize));
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(ContextPropagation.taskDecorator());
+        return executor;
+    }
+
+    @Bean
+    public SingleFlight<Long, ExternalInfoDTO> externalInfoSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("externalInfo", meterRegistry);
+    }
+}
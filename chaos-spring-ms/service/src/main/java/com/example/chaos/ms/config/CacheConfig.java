@@ -0,0 +1,125 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.cache.CompactRedisSerializer;
+import com.example.chaos.ms.cache.ItemDTOCodec;
+import com.example.chaos.ms.cache.PipelinedRedisCacheManager;
+import com.example.chaos.ms.cache.RedisCacheHealth;
+import com.example.chaos.ms.cache.StaleWhileRevalidateCache;
+import com.example.chaos.ms.client.ExternalServiceClient;
+import com.example.chaos.ms.dto.ExternalInfoDTO;
+import com.example.chaos.ms.metrics.StageMetrics;
+import com.example.chaos.ms.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class CacheConfig implements CachingConfigurer {
+
+    @Value("${spring.cache.redis.time-to-live}")
+    private Duration redisTimeToLive;
+
+    @Value("${cache.negative.time-to-live:10s}")
+    private Duration negativeTimeToLive;
+
+    @Value("${cache.near.invalidation-channel:cache:invalidation}")
+    private String invalidationChannel;
+
+    /**
+     * Cache failures are logged and treated as misses, so a broken Redis only costs the
+     * per-operation timeout until {@link RedisCacheHealth} trips into bypass.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    @Bean
+    public RedisCacheHealth redisCacheHealth(RedisConnectionFactory connectionFactory,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.redis-health.slow-threshold:50ms}") Duration slowThreshold,
+                                             @Value("${cache.redis-health.failure-threshold:5}") int failureThreshold,
+                                             @Value("${cache.redis-health.probe-interval:1s}") Duration probeInterval,
+                                             @Value("${cache.redis-health.recovery-probes:3}") int recoveryProbes) {
+        return new RedisCacheHealth(connectionFactory, slowThreshold, failureThreshold, probeInterval,
+                recoveryProbes, meterRegistry);
+    }
+
+    @Bean
+    public CompactRedisSerializer cacheValueSerializer(
+            @Value("${cache.codec.write-compact:false}") boolean writeCompact,
+            @Value("${cache.codec.compression-threshold:512}") int compressionThreshold) {
+        return new CompactRedisSerializer(List.of(new ItemDTOCodec()), getClass().getClassLoader(),
+                writeCompact, compressionThreshold);
+    }
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               MeterRegistry meterRegistry,
+                                               Executor cacheRefreshExecutor,
+                                               CompactRedisSerializer cacheValueSerializer,
+                                               RedisCacheHealth redisCacheHealth,
+                                               StageMetrics stageMetrics,
+                                               @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta) {
+        RedisCacheConfiguration config = RedisCacheConfiguration
+                .defaultCacheConfig(getClass().getClassLoader())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer))
+                .entryTtl((key, value) -> value == null ? negativeTimeToLive : redisTimeToLive);
+        return new PipelinedRedisCacheManager(connectionFactory, config, meterRegistry,
+                cacheRefreshExecutor, earlyRefreshBeta, redisCacheHealth, stageMetrics);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+    public TwoTierCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                            StringRedisTemplate redisTemplate,
+                                            MeterRegistry meterRegistry,
+                                            RedisCacheHealth redisCacheHealth,
+                                            @Value("${cache.near.maximum-size:10000}") long maximumSize,
+                                            @Value("${cache.near.time-to-live:30s}") Duration timeToLive) {
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, meterRegistry, redisCacheHealth,
+                invalidationChannel, maximumSize, timeToLive, negativeTimeToLive);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer nearCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    @Bean
+    public StaleWhileRevalidateCache<Long, ExternalInfoDTO> externalInfoCache(
+            Executor cacheRefreshExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${external.api.cache.soft-ttl:30s}") Duration softTtl,
+            @Value("${external.api.cache.hard-ttl:10m}") Duration hardTtl,
+            @Value("${external.api.cache.maximum-size:10000}") long maximumSize) {
+        return new StaleWhileRevalidateCache<>("externalInfoCache", softTtl, hardTtl, maximumSize,
+                cacheRefreshExecutor,
+                externalInfo -> !ExternalServiceClient.FALLBACK_STATUS.equals(externalInfo.getStatus()),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.db.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write split. {@code spring.datasource} is the primary pool; the {@code @Primary} DataSource
+ * that JPA and JDBC use is a {@link LazyConnectionDataSourceProxy} that defers fetching a physical
+ * connection until the first statement, by which point a {@code @Transactional(readOnly = true)}
+ * transaction has marked the connection read-only and is routed to {@link ReplicaDataSource}.
+ * With no {@code database.replicas.urls} every connection comes from the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${database.replicas.urls:}") List<String> urls,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${database.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${database.replicas.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${database.replicas.max-lag:1s}") Duration maxLag,
+            @Value("${database.replicas.check-interval:1s}") Duration checkInterval) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setMinimumIdle(Math.min(primaryDataSource.getMinimumIdle(), maximumPoolSize));
+            pool.setConnectionTimeout(connectionTimeout.toMillis());
+            pool.setKeepaliveTime(primaryDataSource.getKeepaliveTime());
+            pool.setMaxLifetime(primaryDataSource.getMaxLifetime());
+            // A replica that is down at startup just stays out of the rotation until it comes up
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+        return new ReplicaDataSource(primaryDataSource, pools, maxLag, checkInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
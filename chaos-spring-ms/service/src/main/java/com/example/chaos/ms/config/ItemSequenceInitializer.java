@@ -0,0 +1,58 @@
+package com.example.chaos.ms.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Items used to get their ids from an IDENTITY column. Moves {@code items_seq} past the highest
+ * existing id so the pooled sequence generator never hands out an id that is already taken.
+ * Runs before the web server starts accepting requests, so no POST can draw an id block first.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSequenceInitializer implements SmartLifecycle {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        try {
+            // One statement, so a concurrent nextval can't slip between the read and the setval,
+            // and the advisory lock keeps two starting instances from interleaving
+            Long value = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('items_seq'))");
+                return jdbcTemplate.queryForObject("""
+                        SELECT setval('items_seq', GREATEST(m.max_id, s.last_value), s.is_called OR m.max_id >= s.last_value)
+                        FROM items_seq s, (SELECT COALESCE(MAX(id), 0) AS max_id FROM items) m""", Long.class);
+            });
+            log.info("items_seq aligned with existing ids at {}", value);
+        } catch (Exception e) {
+            log.warn("Could not align items_seq with existing ids: {}", e.getMessage());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Ahead of the embedded web server, which starts in one of the last phases. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
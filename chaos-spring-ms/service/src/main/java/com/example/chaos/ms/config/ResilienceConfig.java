@@ -0,0 +1,77 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.client.AdaptiveConcurrencyLimiter;
+import com.example.chaos.ms.client.RequestHedger;
+import com.example.chaos.ms.db.ConnectionPoolWarmer;
+import com.example.chaos.ms.db.DatabaseCircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.ContextAwareScheduledThreadPoolExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * MDC-propagating scheduler for TimeLimiter timeouts, so fallbacks keep the correlation id.
+     * Declared here instead of via {@code resilience4j.scheduled.executor}: the resilience4j aspects
+     * are instantiated during Spring AOT processing, before that properties class is bound.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ContextAwareScheduledThreadPoolExecutor timeLimiterScheduler(
+            @Value("${resilience.scheduler.core-pool-size:2}") int corePoolSize) {
+        return ContextAwareScheduledThreadPoolExecutor.newScheduledThreadPool()
+                .corePoolSize(corePoolSize)
+                .build();
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter externalApiConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${external.api.concurrency.enabled:true}") boolean enabled,
+            @Value("${external.api.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${external.api.concurrency.min-limit:2}") int minLimit,
+            @Value("${external.api.concurrency.max-limit:200}") int maxLimit,
+            @Value("${external.api.concurrency.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${external.api.concurrency.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter("externalApi", enabled, initialLimit, minLimit, maxLimit,
+                latencyThreshold, backoffRatio, meterRegistry);
+    }
+
+    @Bean
+    public RequestHedger externalApiHedger(
+            MeterRegistry meterRegistry,
+            Executor hedgingExecutor,
+            @Value("${external.api.hedging.enabled:false}") boolean enabled,
+            @Value("${external.api.hedging.percentile:0.95}") double percentile,
+            @Value("${external.api.hedging.min-delay:20ms}") Duration minDelay,
+            @Value("${external.api.hedging.max-delay:1s}") Duration maxDelay,
+            @Value("${external.api.hedging.initial-delay:200ms}") Duration initialDelay,
+            @Value("${external.api.hedging.budget-percent:10}") double budgetPercent) {
+        return new RequestHedger("externalApi", enabled, percentile, minDelay, maxDelay, initialDelay,
+                budgetPercent, hedgingExecutor, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public DatabaseCircuitBreaker databaseCircuitBreaker(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            ConnectionPoolWarmer poolWarmer,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${database.breaker.probe-interval:1s}") Duration probeInterval,
+            @Value("${database.breaker.probe-timeout:2s}") Duration probeTimeout,
+            @Value("${database.breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${database.breaker.recovery-probes:3}") int recoveryProbes,
+            @Value("${database.breaker.warmup-timeout:5s}") Duration warmupTimeout) {
+        return new DatabaseCircuitBreaker(circuitBreakerRegistry.circuitBreaker("database"), poolWarmer,
+                url, username, password, probeInterval, probeTimeout, failureThreshold,
+                recoveryProbes, warmupTimeout, meterRegistry);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.chaos.ms.config;
 
-import org.slf4j.MDC;
+import com.example.chaos.ms.context.CorrelationId;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,9 +11,6 @@ import java.time.Duration;
 @Configuration
 public class RestConfig {
 
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-    private static final String CORRELATION_ID_LOG_VAR = "correlationId";
-
     @Bean
     public RestTemplate externalApiRestTemplate(RestTemplateBuilder builder) {
         return builder
@@ -25,9 +22,9 @@ public class RestConfig {
 
     private ClientHttpRequestInterceptor correlationIdInterceptor() {
         return (request, body, execution) -> {
-            String correlationId = MDC.get(CORRELATION_ID_LOG_VAR);
+            String correlationId = CorrelationId.current();
             if (correlationId != null) {
-                request.getHeaders().add(CORRELATION_ID_HEADER, correlationId);
+                request.getHeaders().add(CorrelationId.HEADER, correlationId);
             }
             return execution.execute(request, body);
         };
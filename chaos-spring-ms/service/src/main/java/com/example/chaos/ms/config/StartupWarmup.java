@@ -0,0 +1,87 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.db.ConnectionPoolWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Opens the Hikari pool's {@code minimum-idle} connections and the shared Redis connection before
+ * the web server starts accepting requests, so the first requests after a restart don't queue
+ * behind connection setup. Bounded by {@code startup.warmup.timeout}; a dependency that is down
+ * is logged and skipped rather than holding up startup.
+ */
+@Component
+@ConditionalOnProperty(name = "startup.warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements SmartLifecycle {
+
+    private final ConnectionPoolWarmer poolWarmer;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Value("${startup.warmup.timeout:5s}")
+    private Duration timeout;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        long start = System.nanoTime();
+        CompletableFuture<Void> redis = CompletableFuture.runAsync(this::pingRedis,
+                command -> Thread.ofVirtual().start(command));
+        try {
+            ConnectionPoolWarmer.Result pool = poolWarmer.warm(timeout);
+            boolean redisReady = awaitQuietly(redis, start);
+            log.info("Startup warmup: {}/{} database connections, Redis {} in {}ms", pool.opened(), pool.target(),
+                    redisReady ? "connected" : "unavailable", (System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running = true;
+    }
+
+    private void pingRedis() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+        }
+    }
+
+    private boolean awaitQuietly(CompletableFuture<Void> future, long startNanos) throws InterruptedException {
+        long remaining = timeout.toNanos() - (System.nanoTime() - startNanos);
+        try {
+            future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Startup warmup could not reach Redis: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Ahead of the embedded web server, which starts in one of the last phases. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.chaos.ms.config;
+
+import com.example.chaos.ms.filter.ResponseCompressionFilter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig {
+
+    // Built from Boot's builder so the binary formats share the spring.jackson settings. They take
+    // the place of Spring's default CBOR and Smile converters, after JSON, so JSON stays the default.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public ResponseCompressionFilter responseCompressionFilter(
+            @Value("${http.compression.enabled:true}") boolean enabled,
+            @Value("${http.compression.min-response-size:2KB}") DataSize minResponseSize,
+            @Value("${http.compression.level:1}") int level,
+            @Value("${http.compression.mime-types:application/json,application/cbor,application/x-jackson-smile}")
+            List<String> mimeTypes) {
+        return new ResponseCompressionFilter(enabled, minResponseSize, level,
+                mimeTypes.stream().map(MediaType::parseMediaType).toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.chaos.ms.context;
+
+import com.example.chaos.ms.metrics.RequestTimings;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Carries the caller's MDC (and with it the correlation id) and {@link RequestTimings} into work
+ * that runs on another thread. The context is captured when the task is created and restored,
+ * then reset to the worker's previous state, around its execution. All executors in {@code AsyncConfig} use
+ * {@link #taskDecorator()}, so {@code CompletableFuture.supplyAsync(..., executor)} chains and
+ * virtual threads need no extra code; {@link #wrap} covers executors created elsewhere.
+ */
+public final class ContextPropagation {
+
+    private ContextPropagation() {
+    }
+
+    public static TaskDecorator taskDecorator() {
+        return ContextPropagation::wrap;
+    }
+
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    public static Runnable wrap(Runnable task) {
+        Snapshot snapshot = Snapshot.capture();
+        return () -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                task.run();
+            } finally {
+                previous.apply();
+            }
+        };
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        Snapshot snapshot = Snapshot.capture();
+        return () -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                return supplier.get();
+            } finally {
+                previous.apply();
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        Snapshot snapshot = Snapshot.capture();
+        return () -> {
+            Snapshot previous = snapshot.apply();
+            try {
+                return callable.call();
+            } finally {
+                previous.apply();
+            }
+        };
+    }
+
+    private record Snapshot(Map<String, String> mdc, RequestTimings timings) {
+
+        static Snapshot capture() {
+            return new Snapshot(MDC.getCopyOfContextMap(), RequestTimings.current());
+        }
+
+        /**
+         * Installs this snapshot on the current thread and returns the one it replaced.
+         */
+        Snapshot apply() {
+            Snapshot previous = capture();
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            } else {
+                MDC.clear();
+            }
+            RequestTimings.set(timings);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.chaos.ms.context;
+
+import org.slf4j.MDC;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Correlation id header, MDC key and generator. Generated ids are UUIDv7 (RFC 9562): a 48-bit
+ * Unix millisecond timestamp followed by random bits from {@link ThreadLocalRandom}, so they sort
+ * by creation time and are produced without the shared {@code SecureRandom} behind
+ * {@link UUID#randomUUID()}.
+ */
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    private CorrelationId() {
+    }
+
+    public static String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+}
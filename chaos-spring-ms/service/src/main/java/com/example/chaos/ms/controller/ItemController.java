@@ -1,45 +1,181 @@
 package com.example.chaos.ms.controller;
 
 import com.example.chaos.ms.dto.EnrichedItemDTO;
+import com.example.chaos.ms.dto.EnrichedItemResultDTO;
 import com.example.chaos.ms.dto.ItemDTO;
+import com.example.chaos.ms.dto.ItemPageDTO;
+import com.example.chaos.ms.exception.ItemNotFoundException;
 import com.example.chaos.ms.service.ItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class ItemController {
 
+    private static final Map<MediaType, String> FORMAT_SUFFIXES = orderedSuffixes();
+
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     @PostMapping("/items")
     @ResponseStatus(HttpStatus.CREATED)
     public ItemDTO createItem(@RequestBody ItemDTO itemDTO) {
-        try {
-            System.out.println("CONTROLLER: Received request for " + itemDTO.getName());
-            ItemDTO result = itemService.createItem(itemDTO);
-            System.out.println("CONTROLLER: Successfully created item " + result.getId());
-            return result;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw e;
-        }
+        return itemService.createItem(itemDTO);
+    }
+
+    @PostMapping("/items/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public java.util.List<ItemDTO> createItems(@RequestBody java.util.List<ItemDTO> itemDTOs) {
+        return itemService.createItems(itemDTOs);
     }
 
     @GetMapping("/items/{id}")
-    public ItemDTO getItem(@PathVariable Long id) {
-        return itemService.getItem(id);
+    public ResponseEntity<ItemDTO> getItem(@PathVariable Long id, NativeWebRequest request) {
+        ItemDTO item = itemService.findItem(id).orElseThrow(() -> new ItemNotFoundException(id));
+        return conditionalGet(request, "item", () -> ItemService.itemETag(item), () -> item, ItemService::itemETag);
+    }
+
+    @GetMapping(value = "/items", params = {"!after", "!limit"})
+    public ResponseEntity<java.util.List<ItemDTO>> getAllItems(NativeWebRequest request) {
+        return conditionalGet(request, "list", itemService::getAllItemsETag, itemService::getAllItems,
+                ItemService::allItemsETag);
     }
 
     @GetMapping("/items")
-    public java.util.List<ItemDTO> getAllItems() {
-        return itemService.getAllItems();
+    public ResponseEntity<ItemPageDTO> getItemsPage(@RequestParam(required = false) Long after,
+                                                    @RequestParam(defaultValue = "100") int limit,
+                                                    NativeWebRequest request) {
+        return conditionalGet(request, "page", () -> itemService.getItemsPageETag(after, limit),
+                () -> itemService.getItemsPage(after, limit), ItemService::pageETag);
+    }
+
+    /**
+     * Answers 304 when {@code If-None-Match} matches {@code currentTag}, before the body is loaded,
+     * mapped or serialized, and counts the outcome per endpoint. {@code currentTag} is only looked
+     * up for conditional requests; a full response is tagged from its own body, so a write between
+     * the two never earns a client a 304 for data it hasn't seen. A null tag means no ETag at all.
+     */
+    private <T> ResponseEntity<T> conditionalGet(NativeWebRequest request, String endpoint,
+                                                 Supplier<String> currentTag, Supplier<T> body,
+                                                 Function<T, String> bodyTag) {
+        String suffix = formatSuffix(request);
+        String result = "unconditional";
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = quoted(currentTag.get(), suffix);
+            if (etag != null && matchesIfNoneMatch(request, etag)) {
+                meterRegistry.counter("http.conditional.requests", "endpoint", endpoint, "result", "not_modified")
+                        .increment();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).eTag(etag).build();
+            }
+            result = etag != null ? "modified" : result;
+        }
+        meterRegistry.counter("http.conditional.requests", "endpoint", endpoint, "result", result).increment();
+
+        T value = body.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        String etag = quoted(bodyTag.apply(value), suffix);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(value);
+    }
+
+    // Compared here rather than with checkNotModified, which would also stamp this tag on a 200
+    private static boolean matchesIfNoneMatch(NativeWebRequest request, String etag) {
+        String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        ETag current = ETag.create(etag);
+        for (String header : headers != null ? headers : new String[0]) {
+            for (ETag tag : ETag.parse(header)) {
+                if (tag.isWildcard() || tag.compare(current, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String quoted(String tag, String formatSuffix) {
+        return tag != null ? "\"" + tag + formatSuffix + "\"" : null;
+    }
+
+    /**
+     * A strong ETag identifies one representation, so CBOR and Smile bodies get their own tags.
+     * Mirrors the converter order: the first accepted type that JSON, CBOR or Smile can produce.
+     */
+    private String formatSuffix(NativeWebRequest request) {
+        try {
+            for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+                for (Map.Entry<MediaType, String> format : FORMAT_SUFFIXES.entrySet()) {
+                    if (accepted.isCompatibleWith(format.getKey())) {
+                        return format.getValue();
+                    }
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            // Rejected when the body is written, and mapped to 406 by GlobalExceptionHandler
+        }
+        return "";
+    }
+
+    private static Map<MediaType, String> orderedSuffixes() {
+        Map<MediaType, String> suffixes = new LinkedHashMap<>();
+        suffixes.put(MediaType.APPLICATION_JSON, "");
+        suffixes.put(new MediaType("application", "x-jackson-smile"), "-smile");
+        suffixes.put(MediaType.APPLICATION_CBOR, "-cbor");
+        return suffixes;
+    }
+
+    @GetMapping(value = "/items", params = {"!after", "!limit"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllItems() {
+        // The body runs after the 200 is committed, so shed before that while the database is down
+        itemService.checkDatabaseAvailable();
+        ObjectWriter writer = objectMapper.writerFor(ItemDTO.class);
+        StreamingResponseBody body = out -> itemService.streamAllItems(item -> writeLine(out, writer, item));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, ObjectWriter writer, ItemDTO item) {
+        try {
+            out.write(writer.writeValueAsBytes(item));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @GetMapping("/enrich/{id}")
     public EnrichedItemDTO getEnrichedItem(@PathVariable Long id) {
         return itemService.getEnrichedItem(id);
     }
+
+    @GetMapping("/enrich")
+    public java.util.List<EnrichedItemResultDTO> getEnrichedItems(@RequestParam java.util.List<Long> ids) {
+        return itemService.getEnrichedItems(ids);
+    }
 }
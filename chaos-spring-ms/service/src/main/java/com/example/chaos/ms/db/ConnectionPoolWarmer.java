@@ -0,0 +1,59 @@
+package com.example.chaos.ms.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the primary Hikari pool up to {@code minimum-idle} by holding that many connections at once, so the
+ * pool has to open (or revalidate) distinct ones. Used at startup and before the database breaker
+ * closes again, so returning traffic doesn't queue behind connection setup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolWarmer {
+
+    public record Result(int opened, int target) {
+
+        public boolean complete() {
+            return opened >= target;
+        }
+    }
+
+    private final HikariDataSource dataSource;
+
+    public Result warm(Duration timeout) throws InterruptedException {
+        int target = Math.max(dataSource.getMinimumIdle(), 1);
+        CountDownLatch acquired = new CountDownLatch(target);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int i = 0; i < target; i++) {
+                executor.execute(() -> holdConnection(acquired, release, timeout));
+            }
+            acquired.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return new Result((int) (target - acquired.getCount()), target);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private void holdConnection(CountDownLatch acquired, CountDownLatch release, Duration timeout) {
+        try (Connection ignored = dataSource.getConnection()) {
+            acquired.countDown();
+            release.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Pool warmup could not open a database connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.chaos.ms.db;
+
+import com.example.chaos.ms.exception.ServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fail-fast guard for Postgres on top of the resilience4j {@code database} circuit breaker, whose
+ * failure and slow-call thresholds are configured in application.yml. While it is open, guarded
+ * calls are shed with {@link ServiceUnavailableException} instead of waiting out the Hikari
+ * connection timeout or the JDBC socket timeout.
+ * <p>
+ * A background probe pings Postgres over its own connection, outside the pool. While the breaker
+ * is closed, {@code failureThreshold} consecutive failed or slow pings open it, without waiting for
+ * blocked requests to time out. While it is open, {@code recoveryProbes} consecutive fast pings
+ * first pre-warm the pool back to {@code minimum-idle} and only then close the breaker, so the
+ * returning traffic doesn't hit a cold pool all at once.
+ */
+@Slf4j
+public class DatabaseCircuitBreaker implements AutoCloseable {
+
+    private final CircuitBreaker circuitBreaker;
+    private final ConnectionPoolWarmer poolWarmer;
+    private final String url;
+    private final Properties probeProperties;
+    private final int probeTimeoutSeconds;
+    private final long slowThresholdNanos;
+    private final int failureThreshold;
+    private final int recoveryProbes;
+    private final Duration warmupTimeout;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+    private final Counter shed;
+    private final ScheduledExecutorService prober;
+
+    private Connection probeConnection;
+    private int consecutiveProbeFailures;
+    private int consecutiveProbeSuccesses;
+
+    public DatabaseCircuitBreaker(CircuitBreaker circuitBreaker, ConnectionPoolWarmer poolWarmer,
+                                  String url, String username, String password,
+                                  Duration probeInterval, Duration probeTimeout, int failureThreshold,
+                                  int recoveryProbes, Duration warmupTimeout, MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.poolWarmer = poolWarmer;
+        this.url = url;
+        this.probeTimeoutSeconds = (int) Math.max(1, probeTimeout.toSeconds());
+        this.probeProperties = new Properties();
+        if (username != null) {
+            probeProperties.setProperty("user", username);
+        }
+        if (password != null) {
+            probeProperties.setProperty("password", password);
+        }
+        probeProperties.setProperty("connectTimeout", String.valueOf(probeTimeoutSeconds));
+        probeProperties.setProperty("loginTimeout", String.valueOf(probeTimeoutSeconds));
+        this.slowThresholdNanos = circuitBreaker.getCircuitBreakerConfig().getSlowCallDurationThreshold().toNanos();
+        this.failureThreshold = failureThreshold;
+        this.recoveryProbes = recoveryProbes;
+        this.warmupTimeout = warmupTimeout;
+        this.retryAfter = probeInterval.multipliedBy(recoveryProbes);
+        this.meterRegistry = meterRegistry;
+        this.shed = Counter.builder("db.breaker.shed")
+                .description("Database calls rejected while the database breaker was open")
+                .register(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Database breaker {}", event.getStateTransition()));
+        this.prober = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("db-breaker-probe").daemon().factory());
+        prober.scheduleWithFixedDelay(this::probe, probeInterval.toMillis(), probeInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sheds the caller if the breaker is open, without recording an outcome. For work that only
+     * reaches the database later, e.g. a transaction or a write queue.
+     */
+    public void checkAvailable() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw unavailable();
+        }
+        circuitBreaker.releasePermission();
+    }
+
+    /**
+     * Runs a database call under the breaker: shed while open, otherwise its duration and outcome
+     * count towards the failure and slow-call rates.
+     */
+    public <T> T execute(CheckedSupplier<T> call) throws Throwable {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw unavailable();
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable t) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, t);
+            throw t;
+        }
+    }
+
+    /** Records a failure that happened outside {@link #execute}, such as acquiring a connection for a transaction. */
+    public void recordFailure(long nanos, Throwable failure) {
+        circuitBreaker.onError(nanos, TimeUnit.NANOSECONDS, failure);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    private ServiceUnavailableException unavailable() {
+        shed.increment();
+        return new ServiceUnavailableException("Database unavailable", retryAfter);
+    }
+
+    private void probe() {
+        // An exception escaping a scheduleWithFixedDelay task would silently cancel every later probe
+        try {
+            probeOnce();
+        } catch (RuntimeException e) {
+            log.warn("Database probe failed unexpectedly", e);
+        }
+    }
+
+    private void probeOnce() {
+        boolean healthy = ping();
+        meterRegistry.counter("db.breaker.probes", "result", healthy ? "success" : "failure").increment();
+        CircuitBreaker.State state = circuitBreaker.getState();
+        consecutiveProbeFailures = healthy ? 0 : consecutiveProbeFailures + 1;
+        // Only pings made while the breaker is not closed count towards recovery, also when the request
+        // path (e.g. the slow-call rate) opened it
+        consecutiveProbeSuccesses = healthy && state != CircuitBreaker.State.CLOSED ? consecutiveProbeSuccesses + 1 : 0;
+
+        if (state == CircuitBreaker.State.CLOSED && consecutiveProbeFailures >= failureThreshold) {
+            log.warn("Database probe failed {} times in a row, opening the breaker", consecutiveProbeFailures);
+            circuitBreaker.transitionToOpenState();
+        } else if (state != CircuitBreaker.State.CLOSED && consecutiveProbeSuccesses >= recoveryProbes) {
+            consecutiveProbeSuccesses = 0;
+            closeAfterWarmup();
+        }
+    }
+
+    private void closeAfterWarmup() {
+        long start = System.nanoTime();
+        try {
+            ConnectionPoolWarmer.Result pool = poolWarmer.warm(warmupTimeout);
+            if (!pool.complete()) {
+                log.warn("Database reachable but only {}/{} pool connections opened, keeping the breaker open",
+                        pool.opened(), pool.target());
+                return;
+            }
+            log.info("Database pool warmed to {} connections in {}ms, closing the breaker",
+                    pool.opened(), (System.nanoTime() - start) / 1_000_000);
+            if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+                circuitBreaker.transitionToClosedState();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean ping() {
+        long start = System.nanoTime();
+        try {
+            if (probeConnection == null || probeConnection.isClosed()) {
+                probeConnection = DriverManager.getConnection(url, probeProperties);
+            }
+            if (probeConnection.isValid(probeTimeoutSeconds)) {
+                return System.nanoTime() - start <= slowThresholdNanos;
+            }
+        } catch (SQLException e) {
+            log.debug("Database probe failed: {}", e.getMessage());
+        }
+        closeProbeConnection();
+        return false;
+    }
+
+    private void closeProbeConnection() {
+        if (probeConnection == null) {
+            return;
+        }
+        try {
+            probeConnection.close();
+        } catch (SQLException ignored) {
+            // Already broken
+        }
+        probeConnection = null;
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+        closeProbeConnection();
+    }
+}
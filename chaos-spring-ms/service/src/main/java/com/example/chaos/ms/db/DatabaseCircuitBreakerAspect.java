@@ -0,0 +1,43 @@
+package com.example.chaos.ms.db;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Puts repository calls under {@link DatabaseCircuitBreaker}. {@code @Transactional} service methods
+ * are checked before the transaction begins, because beginning one already blocks on a pooled
+ * connection; only a failure to begin counts against the breaker, since their duration includes
+ * work that isn't database time.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DatabaseCircuitBreakerAspect {
+
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object guardRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return databaseCircuitBreaker.execute(joinPoint::proceed);
+    }
+
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " && !this(org.springframework.data.repository.Repository)")
+    public Object guardTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        databaseCircuitBreaker.checkAvailable();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (CannotCreateTransactionException e) {
+            databaseCircuitBreaker.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+}
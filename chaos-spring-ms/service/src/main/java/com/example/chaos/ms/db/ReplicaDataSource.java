@@ -0,0 +1,148 @@
+package com.example.chaos.ms.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only side of the routing set up in {@code DataSourceConfig}: hands out connections from the
+ * replica pools round-robin. A replica is skipped while it is down or lags the primary by more
+ * than {@code maxLag}, and with no replica in rotation connections come from the primary. Lag and
+ * reachability are checked in the background every {@code checkInterval}; a replica that fails to
+ * hand out a connection in between is taken out of rotation immediately and the call falls back.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // Zero while the replica has replayed everything it received, so an idle primary doesn't read as lag
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END""";
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private final Counter routed;
+        private volatile boolean available;
+        private volatile double lagSeconds;
+
+        private Replica(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.routed = routed(meterRegistry, pool.getPoolName());
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final Counter primaryFallbacks;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker;
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicaPools, Duration maxLag,
+                             Duration checkInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.replicas = replicaPools.stream().map(pool -> new Replica(pool, meterRegistry)).toList();
+        this.primaryFallbacks = routed(meterRegistry, "primary");
+        for (Replica replica : replicas) {
+            Gauge.builder("db.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("pool", replica.pool.getPoolName())
+                    .description("1 while the replica is in the read rotation")
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("pool", replica.pool.getPoolName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        this.checker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("db-replica-check").daemon().factory());
+        if (!replicas.isEmpty()) {
+            checker.scheduleWithFixedDelay(this::checkAll, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Counter routed(MeterRegistry registry, String pool) {
+        return Counter.builder("db.read.routed")
+                .tag("pool", pool)
+                .description("Read-only connections handed out, by pool")
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                markUnavailable(replica, e.getMessage());
+            }
+        }
+        if (size > 0) {
+            primaryFallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the pool credentials");
+    }
+
+    private void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet lag = statement.executeQuery(LAG_QUERY)) {
+            lag.next();
+            replica.lagSeconds = lag.getDouble(1);
+            if (replica.lagSeconds > maxLagSeconds) {
+                markUnavailable(replica, String.format("lagging %.1fs behind the primary", replica.lagSeconds));
+            } else if (!replica.available) {
+                replica.available = true;
+                log.info("Replica {} back in the read rotation (lag {}s)", replica.pool.getPoolName(), replica.lagSeconds);
+            }
+        } catch (SQLException e) {
+            markUnavailable(replica, e.getMessage());
+        }
+    }
+
+    private void markUnavailable(Replica replica, String reason) {
+        if (replica.available) {
+            replica.available = false;
+            log.warn("Replica {} out of the read rotation, reads fall back: {}", replica.pool.getPoolName(), reason);
+        }
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.chaos.ms.diagnostics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reports virtual-thread pinning hazards when {@code spring.threads.virtual.enabled=true}. At
+ * startup it logs the known risks in our stack (JDK monitor pinning, driver and pool versions,
+ * Hikari pool size), then streams JFR {@code jdk.VirtualThreadPinned} events, counting them per
+ * pinning call site in {@code jvm.threads.virtual.pinned}. The same data is served by the
+ * {@code /actuator/pinning} endpoint.
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+
+    @Value("${diagnostics.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private final ConcurrentMap<String, Counter> pinnedBySite = new ConcurrentHashMap<>();
+    private List<String> hazards = List.of();
+    private RecordingStream recording;
+
+    @Override
+    public void start() {
+        hazards = detectHazards();
+        hazards.forEach(hazard -> log.warn("Virtual thread hazard: {}", hazard));
+
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("Streaming {} events above {}", PINNED_EVENT, threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        Map<String, Double> pinned = new LinkedHashMap<>();
+        pinnedBySite.forEach((site, counter) -> pinned.put(site, counter.count()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("threshold", threshold.toString());
+        report.put("hazards", hazards);
+        report.put("pinnedEvents", pinned);
+        return report;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinningSite(event);
+        Counter counter = pinnedBySite.computeIfAbsent(site, s -> {
+            log.warn("Virtual thread pinned for {} at {}", event.getDuration(), s);
+            return Counter.builder("jvm.threads.virtual.pinned")
+                    .tag("site", s)
+                    .register(meterRegistry);
+        });
+        counter.increment();
+    }
+
+    private String pinningSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        // First frame outside the JDK is the library or application code holding the monitor
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+
+    private List<String> detectHazards() {
+        List<String> found = new ArrayList<>();
+        int jdk = Runtime.version().feature();
+        if (jdk < 24) {
+            found.add("JDK " + jdk + " pins a virtual thread for any blocking call inside a synchronized block "
+                    + "(fixed by JEP 491 in JDK 24)");
+        }
+        checkMinimumVersion(found, "org.postgresql.Driver", "PostgreSQL JDBC driver", "42.6.0");
+        checkMinimumVersion(found, "com.zaxxer.hikari.HikariDataSource", "HikariCP", "5.1.0");
+        if (dataSource instanceof HikariDataSource hikari) {
+            found.add("Hikari pool '" + hikari.getPoolName() + "' allows " + hikari.getMaximumPoolSize()
+                    + " connections; virtual threads beyond that park in getConnection() for up to "
+                    + hikari.getConnectionTimeout() + "ms instead of being limited by the Tomcat thread pool");
+        }
+        return found;
+    }
+
+    private void checkMinimumVersion(List<String> found, String className, String library, String minimum) {
+        String version;
+        try {
+            version = Class.forName(className).getPackage().getImplementationVersion();
+        } catch (ClassNotFoundException e) {
+            return;
+        }
+        // Jars without an Implementation-Version are left to the JFR stream to catch
+        if (version != null && compareVersions(version, minimum) < 0) {
+            found.add(library + " " + version + " uses synchronized around socket I/O and pins virtual threads; "
+                    + "upgrade to " + minimum + " or later");
+        }
+    }
+
+    private static int compareVersions(String left, String right) {
+        String[] a = left.split("[.-]");
+        String[] b = right.split("[.-]");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            int x = i < a.length ? parse(a[i]) : 0;
+            int y = i < b.length ? parse(b[i]) : 0;
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+        }
+        return 0;
+    }
+
+    private static int parse(String part) {
+        try {
+            return Integer.parseInt(part);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.chaos.ms.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrichedItemResultDTO {
+    private Long id;
+    private EnrichmentStatus status;
+    private ItemDTO item;
+    private ExternalInfoDTO externalInfo;
+
+    public enum EnrichmentStatus {
+        OK,
+        FALLBACK,
+        TIMEOUT,
+        REJECTED,
+        NOT_FOUND,
+        UNAVAILABLE
+    }
+}
@@ -14,6 +14,7 @@ public class ItemDTO implements Serializable {
     private Long id;
     private String name;
     private Double value;
+    private Long version;
     // private LocalDateTime createdAt;
 }
 
@@ -0,0 +1,14 @@
+package com.example.chaos.ms.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemPageDTO {
+    private List<ItemDTO> items;
+    private Long nextCursor;
+}
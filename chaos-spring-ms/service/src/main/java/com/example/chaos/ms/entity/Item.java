@@ -2,6 +2,8 @@ package com.example.chaos.ms.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Entity
@@ -11,8 +13,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class Item {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = Item.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -21,6 +26,12 @@ public class Item {
     @Column(nullable = false)
     private Double value;
 
+    // Bumped on every update; rows that predate the column start at 0. Feeds the ETags of item reads.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // removed for isolation
 
     // @PrePersist
@@ -0,0 +1,12 @@
+package com.example.chaos.ms.exception;
+
+/**
+ * A request the client has to change before it can succeed, e.g. too many ids at once. Mapped to
+ * 400; other IllegalArgumentExceptions stay server errors.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.chaos.ms.exception;
+
+/**
+ * Mapped to 404. Stackless: a miss is an expected outcome, and scanners can make it a hot path.
+ */
+public class ItemNotFoundException extends RuntimeException {
+
+    public ItemNotFoundException(Long id) {
+        super("Item not found: " + id);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
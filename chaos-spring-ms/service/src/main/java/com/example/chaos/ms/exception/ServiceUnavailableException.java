@@ -0,0 +1,26 @@
+package com.example.chaos.ms.exception;
+
+import java.time.Duration;
+
+/**
+ * Sheds a request the service cannot take right now. Mapped to 503 with a {@code Retry-After}
+ * header; stackless because it is thrown on the hot path under overload.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
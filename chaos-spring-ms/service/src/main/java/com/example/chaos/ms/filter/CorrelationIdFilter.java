@@ -1,19 +1,16 @@
 package com.example.chaos.ms.filter;
 
+import com.example.chaos.ms.context.CorrelationId;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 public class CorrelationIdFilter implements Filter {
 
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-    private static final String CORRELATION_ID_LOG_VAR = "correlationId";
-
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -21,18 +18,18 @@ public class CorrelationIdFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String correlationId = httpRequest.getHeader(CORRELATION_ID_HEADER);
+        String correlationId = httpRequest.getHeader(CorrelationId.HEADER);
         if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = CorrelationId.generate();
         }
 
-        MDC.put(CORRELATION_ID_LOG_VAR, correlationId);
-        httpResponse.setHeader(CORRELATION_ID_HEADER, correlationId);
+        MDC.put(CorrelationId.MDC_KEY, correlationId);
+        httpResponse.setHeader(CorrelationId.HEADER, correlationId);
 
         try {
             chain.doFilter(request, response);
         } finally {
-            MDC.remove(CORRELATION_ID_LOG_VAR);
+            MDC.remove(CorrelationId.MDC_KEY);
         }
     }
 }
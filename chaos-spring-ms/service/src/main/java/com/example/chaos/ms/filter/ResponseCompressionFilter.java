@@ -0,0 +1,369 @@
+package com.example.chaos.ms.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips responses with a compressible content type once their body grows past
+ * {@code minResponseSize}. Bodies are buffered up to that size, so small responses still go out
+ * uncompressed with a {@code Content-Length} and only larger ones pay for the deflate.
+ * <p>
+ * Tomcat's {@code server.compression} is not used: it never compresses a response with a strong
+ * ETag, and it can't apply its size threshold to the chunked responses Spring MVC writes. Here a
+ * compressed response gets its own strong ETag ({@code "<tag>-gzip"}), and the suffix is stripped
+ * from {@code If-None-Match} before the controller compares it, so a 304 works for both codings.
+ * Streamed (async) responses are passed through uncompressed.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final boolean enabled;
+    private final int minResponseSize;
+    private final int level;
+    private final List<MediaType> mimeTypes;
+
+    public ResponseCompressionFilter(boolean enabled, DataSize minResponseSize, int level, List<MediaType> mimeTypes) {
+        this.enabled = enabled;
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.level = level;
+        this.mimeTypes = mimeTypes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acceptsGzip = acceptsGzip(request);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean gzipTagSent = acceptsGzip && ifNoneMatch != null && ifNoneMatch.contains(GZIP_ETAG_SUFFIX + "\"");
+
+        CompressingResponse compressing = new CompressingResponse(response, acceptsGzip);
+        chain.doFilter(gzipTagSent ? new IdentityTagRequest(request, ifNoneMatch) : request, compressing);
+        if (isAsyncStarted(request)) {
+            compressing.stream.passThrough();
+            return;
+        }
+        if (response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+            compressing.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzipTagSent) {
+                // The client revalidated its gzip copy, so confirm that tag
+                compressing.markGzipETag();
+            }
+        }
+        compressing.stream.finish();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values != null && values.hasMoreElements()) {
+            for (String coding : values.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")
+                        && !(parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean compressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType type = MediaType.parseMediaType(contentType);
+        return mimeTypes.stream().anyMatch(candidate -> candidate.includes(type));
+    }
+
+    /** Presents {@code If-None-Match} with the gzip suffix removed, i.e. the tags of the identity representation. */
+    private static final class IdentityTagRequest extends HttpServletRequestWrapper {
+
+        private final String ifNoneMatch;
+
+        private IdentityTagRequest(HttpServletRequest request, String ifNoneMatch) {
+            super(request);
+            this.ifNoneMatch = ifNoneMatch.replace(GZIP_ETAG_SUFFIX + "\"", "\"");
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? ifNoneMatch : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+                    ? Collections.enumeration(List.of(ifNoneMatch))
+                    : super.getHeaders(name);
+        }
+    }
+
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final CompressingOutputStream stream;
+        private PrintWriter writer;
+        private long declaredLength = -1;
+
+        private CompressingResponse(HttpServletResponse response, boolean acceptsGzip) {
+            super(response);
+            this.stream = new CompressingOutputStream(this, acceptsGzip);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()), true);
+            }
+            return writer;
+        }
+
+        // The length of the identity body is only right if it goes out uncompressed
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            declaredLength = length;
+            if (stream.passingThrough()) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            stream.flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            stream.resetBuffer();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            stream.resetBuffer();
+            super.reset();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            stream.resetBuffer();
+            stream.passThrough();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            stream.resetBuffer();
+            stream.passThrough();
+            super.sendError(status);
+        }
+
+        private void markGzipETag() {
+            String etag = getHeader(HttpHeaders.ETAG);
+            if (etag != null && etag.startsWith("\"") && !etag.endsWith(GZIP_ETAG_SUFFIX + "\"")) {
+                super.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"");
+            }
+        }
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private enum State { UNDECIDED, BUFFERING, IDENTITY, GZIP, FINISHED }
+
+        private final CompressingResponse response;
+        private final boolean acceptsGzip;
+        private ByteArrayOutputStream buffer;
+        private OutputStream target;
+        private State state = State.UNDECIDED;
+
+        private CompressingOutputStream(CompressingResponse response, boolean acceptsGzip) {
+            this.response = response;
+            this.acceptsGzip = acceptsGzip;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+            if (state == State.UNDECIDED) {
+                decide();
+            }
+            if (state == State.BUFFERING) {
+                buffer.write(bytes, offset, length);
+                if (buffer.size() > minResponseSize) {
+                    startGzip();
+                }
+                return;
+            }
+            target.write(bytes, offset, length);
+        }
+
+        private void decide() throws IOException {
+            if (!compressible(response.getContentType())) {
+                passThrough();
+                return;
+            }
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip) {
+                buffer = new ByteArrayOutputStream(Math.min(minResponseSize + 1, 8192));
+                state = State.BUFFERING;
+            } else {
+                passThrough();
+            }
+        }
+
+        private void startGzip() throws IOException {
+            HttpServletResponse raw = (HttpServletResponse) response.getResponse();
+            raw.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.markGzipETag();
+            target = new GZIPOutputStream(raw.getOutputStream(), 8192, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            state = State.GZIP;
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        private boolean passingThrough() {
+            return state == State.IDENTITY;
+        }
+
+        /** Stops compressing: anything buffered and all later writes go out as is. */
+        synchronized void passThrough() throws IOException {
+            if (state == State.GZIP || state == State.IDENTITY || state == State.FINISHED) {
+                return;
+            }
+            HttpServletResponse raw = (HttpServletResponse) response.getResponse();
+            if (response.declaredLength >= 0) {
+                raw.setContentLengthLong(response.declaredLength);
+            }
+            target = raw.getOutputStream();
+            State previous = state;
+            state = State.IDENTITY;
+            if (previous == State.BUFFERING) {
+                buffer.writeTo(target);
+                buffer = null;
+            }
+        }
+
+        synchronized void finish() throws IOException {
+            if (response.writer != null) {
+                response.writer.flush();
+            }
+            HttpServletResponse raw = (HttpServletResponse) response.getResponse();
+            switch (state) {
+                case BUFFERING -> {
+                    // Stayed under the threshold: send it uncompressed, with its exact length
+                    raw.setContentLength(buffer.size());
+                    target = raw.getOutputStream();
+                    buffer.writeTo(target);
+                    buffer = null;
+                }
+                case GZIP -> ((GZIPOutputStream) target).finish();
+                case UNDECIDED -> {
+                    if (response.declaredLength >= 0) {
+                        raw.setContentLengthLong(response.declaredLength);
+                    }
+                    target = raw.getOutputStream();
+                }
+                default -> {
+                    return;
+                }
+            }
+            state = State.FINISHED;
+        }
+
+        synchronized void resetBuffer() {
+            if (state == State.BUFFERING) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            // Nothing leaves before the compression decision, so the headers can still change
+            if (state == State.IDENTITY || state == State.GZIP) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public synchronized boolean isReady() {
+            return !(target instanceof ServletOutputStream servletStream) || servletStream.isReady();
+        }
+
+        /**
+         * Non-blocking writers bypass compression: the buffer and the gzip stream can't report
+         * readiness, so the body goes straight to the container's stream, which gets the listener.
+         */
+        @Override
+        public synchronized void setWriteListener(WriteListener listener) {
+            try {
+                passThrough();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!(target instanceof ServletOutputStream servletStream)) {
+                throw new IllegalStateException("Write listener set after compression started");
+            }
+            servletStream.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.chaos.ms.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.chaos.ms.context.CorrelationId;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Enables DEBUG and TRACE for a sample of requests regardless of logger levels. The decision hashes
+ * the MDC correlation id, so every log line of a sampled request is kept, on every thread and in
+ * every service that sees the same id.
+ */
+public class CorrelationSamplingTurboFilter extends TurboFilter {
+
+    private int samplePercent;
+    private String mdcKey = CorrelationId.MDC_KEY;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (samplePercent <= 0 || level == null || level.isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+        String correlationId = MDC.get(mdcKey);
+        if (correlationId == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return Math.floorMod(correlationId.hashCode(), 100) < samplePercent ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setSamplePercent(int samplePercent) {
+        this.samplePercent = samplePercent;
+    }
+
+    public void setMdcKey(String mdcKey) {
+        this.mdcKey = mdcKey;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.chaos.ms.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs an exception with its stack trace at most once per interval for each exception type and
+ * call site (the top stack frame); repeats in between are only counted and reported with the next
+ * logged occurrence. Stackless exceptions are keyed by type alone.
+ */
+public class ThrottledExceptionLogger {
+
+    private static final int MAX_KEYS = 1024;
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private static final class Window {
+        private final AtomicLong lastLoggedNanos;
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long lastLoggedNanos) {
+            this.lastLoggedNanos = new AtomicLong(lastLoggedNanos);
+        }
+    }
+
+    public ThrottledExceptionLogger(Logger log, Duration interval) {
+        this.log = log;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void error(String message, Throwable t) {
+        long now = System.nanoTime();
+        if (windows.size() >= MAX_KEYS) {
+            windows.clear();
+        }
+        Window window = windows.computeIfAbsent(key(t), k -> new Window(now - intervalNanos));
+        long last = window.lastLoggedNanos.get();
+        if (now - last < intervalNanos || !window.lastLoggedNanos.compareAndSet(last, now)) {
+            window.suppressed.increment();
+            return;
+        }
+        long suppressed = window.suppressed.sumThenReset();
+        if (suppressed > 0) {
+            log.error("{} ({} similar suppressed)", message, suppressed, t);
+        } else {
+            log.error(message, t);
+        }
+    }
+
+    private static String key(Throwable t) {
+        StackTraceElement[] stackTrace = t.getStackTrace();
+        return stackTrace.length > 0
+                ? t.getClass().getName() + "@" + stackTrace[0]
+                : t.getClass().getName();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.chaos.ms.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Names the request's endpoint (method and route pattern, e.g. {@code GET /api/enrich/{id}}) once
+ * the handler is known, so stage metrics are tagged per route rather than per raw URI.
+ */
+public class EndpointTaggingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings timings = RequestTimings.current();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (timings != null && pattern != null) {
+            timings.setEndpoint(request.getMethod() + " " + pattern);
+        }
+        return true;
+    }
+}
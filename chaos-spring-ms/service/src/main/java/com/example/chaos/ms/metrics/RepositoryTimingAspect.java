@@ -0,0 +1,33 @@
+package com.example.chaos.ms.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every repository call as the {@code db} stage, tagged with the repository method.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryTimingAspect {
+
+    private final StageMetrics stageMetrics;
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = "error";
+            throw t;
+        } finally {
+            stageMetrics.record("db", System.nanoTime() - start,
+                    "operation", joinPoint.getSignature().getName(), "outcome", outcome);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.chaos.ms.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request accumulator of stage durations, bound to the request thread by
+ * {@link ServerTimingFilter} and carried to worker threads by {@code ContextPropagation}. Stages
+ * that run concurrently (e.g. the external call of {@code /api/enrich}) are summed per stage.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final ConcurrentMap<String, Stage> stages = new ConcurrentHashMap<>();
+    private volatile String endpoint = "unknown";
+
+    private static final class Stage {
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestTimings timings) {
+        if (timings != null) {
+            CURRENT.set(timings);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void add(String stage, long nanos) {
+        Stage entry = stages.computeIfAbsent(stage, s -> new Stage());
+        entry.nanos.add(nanos);
+        entry.count.increment();
+    }
+
+    /**
+     * Formats the stages as a {@code Server-Timing} header value, e.g.
+     * {@code db;dur=12.4;desc="2 calls", external;dur=151.0;desc="1 call", total;dur=170.3}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            long count = entry.getValue().count.sum();
+            header.append(entry.getKey())
+                    .append(";dur=").append(millis(entry.getValue().nanos.sum()))
+                    .append(";desc=\"").append(count).append(count == 1 ? " call\", " : " calls\", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(Math.round(nanos / 100_000.0) / 10.0);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.chaos.ms.metrics;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Binds a {@link RequestTimings} to the request and adds its stage breakdown as a
+ * {@code Server-Timing} header just before the response commits: on the first write, flush or
+ * {@code sendError}, or when the chain returns for responses without a body (304s, 204s). A
+ * streamed (async) response gets the timings up to its first byte.
+ */
+@Component
+public class ServerTimingFilter implements Filter {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        RequestTimings timings = new RequestTimings();
+        RequestTimings.set(timings);
+        ServerTimingResponse timed = response instanceof HttpServletResponse http
+                ? new ServerTimingResponse(http, timings) : null;
+        try {
+            chain.doFilter(request, timed != null ? timed : response);
+        } finally {
+            RequestTimings.set(null);
+            if (timed != null && !request.isAsyncStarted()) {
+                timed.addServerTiming();
+            }
+        }
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private volatile boolean added;
+        private ServletOutputStream stream;
+        private PrintWriter writer;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+            }
+        }
+
+        @Override
+        public synchronized ServletOutputStream getOutputStream() throws IOException {
+            if (stream == null) {
+                stream = new TimingOutputStream(super.getOutputStream());
+            }
+            return stream;
+        }
+
+        @Override
+        public synchronized PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(super.getWriter()) {
+                    @Override
+                    public void write(int c) {
+                        addServerTiming();
+                        super.write(c);
+                    }
+
+                    @Override
+                    public void write(char[] chars, int offset, int length) {
+                        addServerTiming();
+                        super.write(chars, offset, length);
+                    }
+
+                    @Override
+                    public void write(String text, int offset, int length) {
+                        addServerTiming();
+                        super.write(text, offset, length);
+                    }
+
+                    @Override
+                    public void flush() {
+                        addServerTiming();
+                        super.flush();
+                    }
+                };
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            addServerTiming();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            addServerTiming();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+
+        private final class TimingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            private TimingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                addServerTiming();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                addServerTiming();
+                delegate.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                addServerTiming();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                addServerTiming();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.chaos.ms.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long a request spends in each stage ({@code cache}, {@code db}, {@code external}):
+ * a percentile histogram {@code stage.<stage>.latency} tagged with the endpoint plus stage-specific
+ * tags, and the request's {@link RequestTimings} for the {@code Server-Timing} header.
+ */
+@Component
+public class StageMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String stage, long nanos, String... tags) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.add(stage, nanos);
+        }
+        Timer.builder("stage." + stage + ".latency")
+                .tags(Tags.of(tags).and("endpoint", timings != null ? timings.getEndpoint() : "none"))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,9 +1,46 @@
 package com.example.chaos.ms.repository;
 
 import com.example.chaos.ms.entity.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-only by default so derived queries run in a read-only transaction and go to a replica (see
+ * {@code DataSourceConfig}); the inherited write methods keep their own read-write transactions.
+ */
 @Repository
+@Transactional(readOnly = true)
 public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    List<Item> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    @Query("select i from Item i order by i.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Item> streamAllOrderedById();
+
+    /**
+     * MD5 over every row's {@code id:version} in id order, or null for an empty table. Changes
+     * whenever an item is created, updated or deleted, without loading the rows.
+     */
+    @Query(value = "select md5(string_agg(id || ':' || version, ',' order by id)) from items", nativeQuery = true)
+    String digestAll();
+
+    /** Same as {@link #digestAll()} for the keyset page {@code findByIdGreaterThanOrderByIdAsc} returns. */
+    @Query(value = """
+            select md5(string_agg(id || ':' || version, ',' order by id))
+            from (select id, version from items where id > :after order by id limit :limit) page""",
+            nativeQuery = true)
+    String digestPage(long after, int limit);
 }
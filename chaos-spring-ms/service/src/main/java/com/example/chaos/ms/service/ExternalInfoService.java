@@ -0,0 +1,44 @@
+package com.example.chaos.ms.service;
+
+import com.example.chaos.ms.cache.StaleWhileRevalidateCache;
+import com.example.chaos.ms.client.ExternalServiceClient;
+import com.example.chaos.ms.dto.ExternalInfoDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves external info from a stale-while-revalidate cache in front of {@link ExternalServiceClient}.
+ * The lookup happens outside the client's circuit breaker so that cache hits are not counted as
+ * upstream successes; only real calls, including background revalidations, go through it.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExternalInfoService {
+
+    private final ExternalServiceClient externalServiceClient;
+    private final StaleWhileRevalidateCache<Long, ExternalInfoDTO> externalInfoCache;
+
+    public ExternalInfoDTO getExternalInfo(Long id) {
+        return externalInfoCache.get(id, () -> externalServiceClient.fetchExternalInfo(id));
+    }
+
+    public CompletableFuture<ExternalInfoDTO> getExternalInfoAsync(Long id) {
+        return externalInfoCache.lookup(id, () -> externalServiceClient.fetchExternalInfo(id))
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> externalServiceClient.fetchExternalInfoAsync(id)
+                        .thenApply(externalInfo -> {
+                            externalInfoCache.put(id, externalInfo);
+                            return externalInfo;
+                        }));
+    }
+
+    public ExternalInfoDTO fallback(Long id, Throwable t) {
+        return externalServiceClient.externalApiFallback(id, t);
+    }
+
+    public static boolean isFallback(ExternalInfoDTO externalInfo) {
+        return ExternalServiceClient.FALLBACK_STATUS.equals(externalInfo.getStatus());
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.chaos.ms.service;
+
+import com.example.chaos.ms.db.DatabaseCircuitBreaker;
+import com.example.chaos.ms.dto.ItemDTO;
+import com.example.chaos.ms.entity.Item;
+import com.example.chaos.ms.exception.ServiceUnavailableException;
+import com.example.chaos.ms.repository.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind path for single-item creates: requests are queued and a flusher thread inserts
+ * them as one transaction once {@code max-batch} items are waiting or {@code max-delay} has passed
+ * since the first one. Callers block until their group has committed, so they still only see an id
+ * for a persisted row. A full queue sheds the request with 503 instead of piling up threads.
+ * When the flusher stops, for shutdown or because it died, everything still queued is failed
+ * with 503 so no caller is left waiting.
+ */
+@Component
+@ConditionalOnProperty(name = "items.write-behind.enabled", havingValue = "true")
+@Slf4j
+public class ItemGroupCommitter implements SmartLifecycle {
+
+    private record PendingCreate(ItemDTO item, CompletableFuture<ItemDTO> result) {
+    }
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+    private final BlockingQueue<PendingCreate> queue;
+    private final int maxBatch;
+    private final Duration maxDelay;
+    private final Duration enqueueTimeout;
+
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ItemGroupCommitter(ItemRepository itemRepository,
+                              TransactionTemplate transactionTemplate,
+                              DatabaseCircuitBreaker databaseCircuitBreaker,
+                              MeterRegistry meterRegistry,
+                              @Value("${items.write-behind.queue-capacity:1000}") int queueCapacity,
+                              @Value("${items.write-behind.max-batch:100}") int maxBatch,
+                              @Value("${items.write-behind.max-delay:5ms}") Duration maxDelay,
+                              @Value("${items.write-behind.enqueue-timeout:50ms}") Duration enqueueTimeout) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.databaseCircuitBreaker = databaseCircuitBreaker;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.maxDelay = maxDelay;
+        this.enqueueTimeout = enqueueTimeout;
+        this.batchSizes = DistributionSummary.builder("items.group.commit.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("items.group.commit.rejected")
+                .register(meterRegistry);
+        Gauge.builder("items.group.commit.queue", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public ItemDTO create(ItemDTO item) {
+        // The flusher's transaction would block on a connection, so don't queue while the database is down
+        databaseCircuitBreaker.checkAvailable();
+        if (!running) {
+            rejected.increment();
+            throw stopped();
+        }
+        PendingCreate pending = new PendingCreate(item, new CompletableFuture<>());
+        boolean queued;
+        try {
+            queued = queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Item write queue is full", Duration.ofSeconds(1));
+        }
+        // The flusher may have stopped and drained the queue while this was being offered
+        if (!running && queue.remove(pending)) {
+            rejected.increment();
+            throw stopped();
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static ServiceUnavailableException stopped() {
+        return new ServiceUnavailableException("Item write queue is stopped", Duration.ofSeconds(1));
+    }
+
+    private void runFlusher() {
+        try {
+            flushUntilStopped();
+        } finally {
+            running = false;
+            List<PendingCreate> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            if (!abandoned.isEmpty()) {
+                log.warn("Item group commit flusher stopped, failing {} queued creates", abandoned.size());
+                abandoned.forEach(pending -> pending.result().completeExceptionally(stopped()));
+            }
+        }
+    }
+
+    private void flushUntilStopped() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        queue.drainTo(batch, maxBatch - batch.size());
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | Error e) {
+                log.error("Item group commit flusher failed: {}", e.getMessage(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+                if (e instanceof Error) {
+                    throw e;
+                }
+            } finally {
+                // No-op for creates that already completed; an interrupted batch is failed here
+                batch.forEach(pending -> pending.result().completeExceptionally(stopped()));
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        try {
+            commit(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One bad row must not fail the rest of the group
+            log.warn("Group commit of {} items rejected, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingCreate pending : batch) {
+                try {
+                    commit(List.of(pending));
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} items failed: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        List<Item> saved = transactionTemplate.execute(status -> itemRepository.saveAll(batch.stream()
+                .map(pending -> Item.builder()
+                        .name(pending.item().getName())
+                        .value(pending.item().getValue())
+                        .build())
+                .toList()));
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(ItemService.mapToDTO(saved.get(i)));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("item-group-commit").daemon().start(this::runFlusher);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -1,75 +1,455 @@
 package com.example.chaos.ms.service;
 
-import com.example.chaos.ms.client.ExternalServiceClient;
+import com.example.chaos.ms.cache.BulkCache;
+import com.example.chaos.ms.db.DatabaseCircuitBreaker;
 import com.example.chaos.ms.dto.EnrichedItemDTO;
+import com.example.chaos.ms.dto.EnrichedItemResultDTO;
+import com.example.chaos.ms.dto.EnrichedItemResultDTO.EnrichmentStatus;
 import com.example.chaos.ms.dto.ExternalInfoDTO;
 import com.example.chaos.ms.dto.ItemDTO;
+import com.example.chaos.ms.dto.ItemPageDTO;
 import com.example.chaos.ms.entity.Item;
+import com.example.chaos.ms.exception.InvalidRequestException;
+import com.example.chaos.ms.exception.ItemNotFoundException;
+import com.example.chaos.ms.exception.ServiceUnavailableException;
 import com.example.chaos.ms.repository.ItemRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ItemService {
 
+    private static final String DIGEST_CACHE = "itemDigests";
+    private static final String DIGEST_GENERATION_KEY = "generation";
+
     private final ItemRepository itemRepository;
-    private final ExternalServiceClient externalServiceClient;
+    private final ExternalInfoService externalInfoService;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final Executor externalCallExecutor;
+    private final ObjectProvider<ItemGroupCommitter> itemGroupCommitter;
+    // Calls through the proxy, so internal lookups still get @Cacheable
+    private final ObjectProvider<ItemService> self;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    @Value("${enrich.batch.max-ids:100}")
+    private int maxEnrichIds;
+
+    @Value("${enrich.batch.deadline:3s}")
+    private Duration enrichDeadline;
+
+    @Value("${items.page.max-limit:1000}")
+    private int maxPageLimit;
 
     @CachePut(value = "items", key = "#result.id")
     public ItemDTO createItem(ItemDTO itemDTO) {
         log.info("Creating item: {}", itemDTO.getName());
+        ItemGroupCommitter groupCommitter = itemGroupCommitter.getIfAvailable();
+        if (groupCommitter != null) {
+            ItemDTO created = groupCommitter.create(itemDTO);
+            evictListDigests();
+            return created;
+        }
         Item item = Item.builder()
                 .name(itemDTO.getName())
                 .value(itemDTO.getValue())
                 .build();
         Item saved = itemRepository.save(item);
+        evictListDigests();
         return mapToDTO(saved);
     }
 
-    @Cacheable(value = "items", key = "#id")
-    public ItemDTO getItem(Long id) {
+    @Transactional
+    public List<ItemDTO> createItems(List<ItemDTO> itemDTOs) {
+        log.info("Creating {} items in batches of {}", itemDTOs.size(), batchSize);
+        List<ItemDTO> created = new ArrayList<>(itemDTOs.size());
+        for (int start = 0; start < itemDTOs.size(); start += batchSize) {
+            List<Item> chunk = itemDTOs.subList(start, Math.min(start + batchSize, itemDTOs.size())).stream()
+                    .map(dto -> Item.builder()
+                            .name(dto.getName())
+                            .value(dto.getValue())
+                            .build())
+                    .toList();
+            itemRepository.saveAll(chunk);
+            entityManager.flush();
+            chunk.forEach(item -> created.add(mapToDTO(item)));
+            entityManager.clear();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheItems(created);
+                evictListDigests();
+            }
+        });
+        return created;
+    }
+
+    private void cacheItems(List<ItemDTO> items) {
+        Cache cache = cacheManager.getCache("items");
+        if (cache == null || items.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemDTO> entries = new LinkedHashMap<>();
+        items.forEach(item -> entries.put(item.getId(), item));
+        try {
+            if (cache instanceof BulkCache bulkCache) {
+                bulkCache.putAll(entries);
+            } else {
+                entries.forEach(cache::put);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache {} items: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Cache first, then one query for the misses. While the database breaker is open the misses
+     * are added to {@code unavailable} instead, so the cached part can still be served; with
+     * nothing cached the request is shed.
+     */
+    public Map<Long, ItemDTO> getItems(Collection<Long> ids, Set<Long> unavailable) {
+        Map<Long, ItemDTO> found = new LinkedHashMap<>();
+        // Cached as not found: left out of the result without asking the database again
+        Set<Long> knownMissing = new HashSet<>();
+        Cache cache = cacheManager.getCache("items");
+        try {
+            if (cache instanceof BulkCache bulkCache) {
+                bulkCache.getAll(ids).forEach((key, value) -> {
+                    if (value instanceof ItemDTO item) {
+                        found.put((Long) key, item);
+                    } else if (value instanceof NullValue) {
+                        knownMissing.add((Long) key);
+                    }
+                });
+            } else if (cache != null) {
+                ids.forEach(id -> {
+                    Cache.ValueWrapper cached = cache.get(id);
+                    if (cached != null && cached.get() instanceof ItemDTO item) {
+                        found.put(id, item);
+                    } else if (cached != null && cached.get() == null) {
+                        knownMissing.add(id);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            log.warn("Bulk cache lookup failed, loading {} items from DB: {}", ids.size(), e.getMessage());
+        }
+
+        List<Long> misses = ids.stream().filter(id -> !found.containsKey(id) && !knownMissing.contains(id)).toList();
+        if (!misses.isEmpty()) {
+            log.info("Fetching {} items from DB", misses.size());
+            try {
+                List<ItemDTO> loaded = itemRepository.findAllById(misses).stream()
+                        .map(ItemService::mapToDTO)
+                        .toList();
+                loaded.forEach(item -> found.put(item.getId(), item));
+                cacheItems(loaded);
+            } catch (ServiceUnavailableException e) {
+                if (found.isEmpty()) {
+                    throw e;
+                }
+                log.warn("Database unavailable, serving {} of {} items from cache", found.size(), ids.size());
+                unavailable.addAll(misses);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Misses are cached too (as null, with {@code cache.negative.time-to-live}) so repeated lookups
+     * of unknown ids stay off the database; creating the id overwrites the entry.
+     */
+    @Cacheable(value = "items", key = "#id", sync = true)
+    public Optional<ItemDTO> findItem(Long id) {
         log.info("Fetching item from DB for id: {}", id);
         return itemRepository.findById(id)
-                .map(this::mapToDTO)
-                .orElseThrow(() -> new RuntimeException("Item not found: " + id));
+                .map(ItemService::mapToDTO);
     }
 
     public java.util.List<ItemDTO> getAllItems() {
         log.info("Fetching all items from DB");
-        return itemRepository.findAll().stream()
-                .map(this::mapToDTO)
+        // Ordered so equal contents always serialize to the same bytes under the same ETag
+        return itemRepository.findAll(Sort.by("id")).stream()
+                .map(ItemService::mapToDTO)
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    public ItemPageDTO getItemsPage(Long after, int limit) {
+        int pageSize = pageSize(limit);
+        log.info("Fetching items page after id {} (limit {})", after, pageSize);
+        List<ItemDTO> items = itemRepository
+                .findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(pageSize))
+                .stream()
+                .map(ItemService::mapToDTO)
+                .toList();
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).getId() : null;
+        return ItemPageDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, maxPageLimit));
+    }
+
+    /**
+     * ETag (unquoted) of an item response, from its id and version, or null for a cache entry
+     * written before items had a version.
+     */
+    public static String itemETag(ItemDTO item) {
+        return item.getVersion() != null ? "item-" + item.getId() + "-v" + item.getVersion() : null;
+    }
+
+    /**
+     * Current ETag of {@link #getAllItems()}, for comparing with {@code If-None-Match}: the cached
+     * digest of every row's id and version, computed by Postgres only when the cache has none.
+     */
+    public String getAllItemsETag() {
+        return listETag("items", cachedDigest("all", itemRepository::digestAll));
+    }
+
+    /** Same as {@link #getAllItemsETag()} for one keyset page of {@link #getItemsPage(Long, int)}. */
+    public String getItemsPageETag(Long after, int limit) {
+        long from = after != null ? after : 0L;
+        int size = pageSize(limit);
+        return listETag("page", cachedDigest("page:" + from + ":" + size, () -> itemRepository.digestPage(from, size)));
+    }
+
+    /** ETag of a loaded {@link #getAllItems()} result; equal to {@link #getAllItemsETag()} for the same rows. */
+    public static String allItemsETag(List<ItemDTO> items) {
+        return listETag("items", digest(items));
+    }
+
+    /** ETag of a loaded {@link #getItemsPage(Long, int)} result. */
+    public static String pageETag(ItemPageDTO page) {
+        return listETag("page", digest(page.getItems()));
+    }
+
+    private static String listETag(String prefix, String digest) {
+        return prefix + "-" + (digest != null ? digest : "empty");
+    }
+
+    // Must produce what ItemRepository.digestAll/digestPage compute in Postgres
+    private static String digest(List<ItemDTO> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        String rows = items.stream()
+                .map(item -> item.getId() + ":" + item.getVersion())
+                .collect(Collectors.joining(","));
+        try {
+            byte[] md5 = MessageDigest.getInstance("MD5").digest(rows.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(md5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * List digests are cached under a write generation that every item write evicts, so polls
+     * between writes cost a cache lookup instead of a table scan. Rows written outside the service
+     * only show up once the generation expires ({@code spring.cache.redis.time-to-live}).
+     */
+    private String cachedDigest(String key, Supplier<String> digest) {
+        Cache cache = cacheManager.getCache(DIGEST_CACHE);
+        if (cache == null) {
+            return digest.get();
+        }
+        String generation;
+        try {
+            generation = cache.get(DIGEST_GENERATION_KEY, () -> UUID.randomUUID().toString());
+        } catch (RuntimeException e) {
+            log.warn("List digest cache unavailable, digesting in the database: {}", e.getMessage());
+            return digest.get();
+        }
+        try {
+            return cache.get(generation + ":" + key, digest::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("List digest cache unavailable, digesting in the database: {}", e.getMessage());
+            return digest.get();
+        }
+    }
+
+    private void evictListDigests() {
+        Cache cache = cacheManager.getCache(DIGEST_CACHE);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(DIGEST_GENERATION_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to evict list digests: {}", e.getMessage());
+        }
+    }
+
+    public void checkDatabaseAvailable() {
+        databaseCircuitBreaker.checkAvailable();
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllItems(Consumer<ItemDTO> consumer) {
+        log.info("Streaming all items from DB");
+        try (Stream<Item> items = itemRepository.streamAllOrderedById()) {
+            items.forEach(item -> {
+                consumer.accept(mapToDTO(item));
+                entityManager.detach(item);
+            });
+        }
+    }
+
     public EnrichedItemDTO getEnrichedItem(Long id) {
-        ItemDTO item = getItem(id);
-        ExternalInfoDTO externalInfo = externalServiceClient.fetchExternalInfo(id);
+        // The external leg runs on the external-call pool, bounded by the externalApi TimeLimiter,
+        // while the item is resolved on the request thread through the items cache. The item leg has
+        // no deadline of its own: a cache miss is one findById, shed while the database breaker is
+        // open and otherwise capped only by the JDBC socketTimeout
+        CompletableFuture<ExternalInfoDTO> externalCall = externalInfoService.getExternalInfoAsync(id);
+        ItemDTO item;
+        try {
+            item = self.getObject().findItem(id).orElseThrow(() -> new ItemNotFoundException(id));
+        } catch (RuntimeException e) {
+            externalCall.cancel(true);
+            throw e;
+        }
+        ExternalInfoDTO externalInfo = externalCall.join();
         return EnrichedItemDTO.builder()
                 .item(item)
                 .externalInfo(externalInfo)
                 .build();
     }
 
+    public List<EnrichedItemResultDTO> getEnrichedItems(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > maxEnrichIds) {
+            throw new InvalidRequestException(
+                    "At most " + maxEnrichIds + " ids can be enriched per request, got " + distinctIds.size());
+        }
+        Set<Long> unavailable = new HashSet<>();
+        Map<Long, ItemDTO> items = getItems(distinctIds, unavailable);
+
+        Map<Long, CompletableFuture<ExternalInfoDTO>> externalCalls = new LinkedHashMap<>();
+        for (Long id : items.keySet()) {
+            try {
+                externalCalls.put(id, CompletableFuture.supplyAsync(
+                        () -> externalInfoService.getExternalInfo(id), externalCallExecutor));
+            } catch (RejectedExecutionException e) {
+                externalCalls.put(id, CompletableFuture.failedFuture(e));
+            }
+        }
+        awaitAll(externalCalls.values(), enrichDeadline);
+
+        return distinctIds.stream()
+                .map(id -> unavailable.contains(id)
+                        ? EnrichedItemResultDTO.builder().id(id).status(EnrichmentStatus.UNAVAILABLE).build()
+                        : toEnrichedResult(id, items.get(id), externalCalls.get(id)))
+                .toList();
+    }
+
+    private void awaitAll(Collection<CompletableFuture<ExternalInfoDTO>> futures, Duration deadline) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Enrichment deadline of {} exceeded, returning partial results", deadline);
+        } catch (ExecutionException e) {
+            // Individual failures are reported per item
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private EnrichedItemResultDTO toEnrichedResult(Long id, ItemDTO item, CompletableFuture<ExternalInfoDTO> call) {
+        EnrichedItemResultDTO.EnrichedItemResultDTOBuilder result = EnrichedItemResultDTO.builder()
+                .id(id)
+                .item(item);
+        if (item == null) {
+            return result.status(EnrichmentStatus.NOT_FOUND).build();
+        }
+        if (!call.isDone()) {
+            call.cancel(true);
+            return result.status(EnrichmentStatus.TIMEOUT)
+                    .externalInfo(externalInfoService.fallback(id, new TimeoutException("Enrichment deadline exceeded")))
+                    .build();
+        }
+        try {
+            ExternalInfoDTO externalInfo = call.join();
+            return result.status(ExternalInfoService.isFallback(externalInfo) ? EnrichmentStatus.FALLBACK : EnrichmentStatus.OK)
+                    .externalInfo(externalInfo)
+                    .build();
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return result.status(cause instanceof RejectedExecutionException
+                            ? EnrichmentStatus.REJECTED
+                            : EnrichmentStatus.FALLBACK)
+                    .externalInfo(externalInfoService.fallback(id, cause))
+                    .build();
+        }
+    }
+
     public ExternalInfoDTO fetchExternalInfo(Long id) {
-        return externalServiceClient.fetchExternalInfo(id);
+        return externalInfoService.getExternalInfo(id);
     }
 
-    private ItemDTO mapToDTO(Item item) {
+    static ItemDTO mapToDTO(Item item) {
         return ItemDTO.builder()
                 .id(item.getId())
                 .name(item.getName())
                 .value(item.getValue())
+                .version(item.getVersion())
                 // .createdAt(item.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,13 @@
+-- Schema for the fast-startup profile, where Hibernate only validates (ddl-auto: validate).
+-- Must match what ddl-auto: update generates for Item so both modes can share a database.
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS items (
+    id      BIGINT           NOT NULL PRIMARY KEY,
+    name    VARCHAR(255)     NOT NULL,
+    value   DOUBLE PRECISION NOT NULL,
+    version BIGINT           NOT NULL DEFAULT 0
+);
+
+-- Tables created before Item had a version column
+ALTER TABLE items ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,35 @@
+package com.example.chaos.tests;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Polls a condition until it holds, instead of sleeping for a fixed time and hoping. Exceptions
+ * from the condition (connection refused while a container restarts, etc.) count as "not yet".
+ */
+final class Await {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private Await() {
+    }
+
+    static Duration until(String description, Duration timeout, BooleanSupplier condition)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        while (true) {
+            try {
+                if (condition.getAsBoolean()) {
+                    return Duration.ofNanos(System.nanoTime() - start);
+                }
+            } catch (RuntimeException ignored) {
+                // not ready yet
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new AssertionError("Timed out after " + timeout.toSeconds() + "s waiting for " + description);
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+    }
+}
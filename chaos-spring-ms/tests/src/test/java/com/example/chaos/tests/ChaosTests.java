@@ -1,11 +1,20 @@
 package com.example.chaos.tests;
 
+import com.example.chaos.tests.load.LoadReport;
+import com.example.chaos.tests.load.LoadWindow;
+import com.example.chaos.tests.load.OpenLoopLoadGenerator;
+import com.example.chaos.tests.load.RequestMix;
 import eu.rekawek.toxiproxy.Proxy;
 import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.Toxic;
 import eu.rekawek.toxiproxy.model.ToxicDirection;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.aventstack.extentreports.ExtentReports;
@@ -20,9 +29,20 @@ import io.restassured.filter.FilterContext;
 import io.restassured.response.Response;
 import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import io.restassured.config.HttpClientConfig;
@@ -32,21 +52,46 @@ import static org.hamcrest.Matchers.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+// A method orderer defaults its class to SAME_THREAD, which would run every scenario serially on one thread
+@Execution(ExecutionMode.CONCURRENT)
 public class ChaosTests {
 
     private static final Logger log = LoggerFactory.getLogger(ChaosTests.class);
+    private static final double MAX_RECOVERED_ERROR_RATE = 0.05;
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * Scenarios that pause or restart the shared Postgres/Redis containers take this exclusively;
+     * everything else only touches its own lane and takes it shared, so lanes run concurrently.
+     */
+    private static final String SHARED_INFRA = "shared-infra";
 
     private String msUrl;
     private String toxiproxyUrl;
     private String wiremockUrl;
     private ToxiproxyClient toxiproxyClient;
 
-    private Proxy dbProxy;
-    private Proxy redisProxy;
-    private Proxy extProxy;
+    private double loadRate;
+    private Duration loadWindow;
+    private String loadMix;
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private final BlockingQueue<Lane> freeLanes = new LinkedBlockingQueue<>();
+    private final ThreadLocal<Lane> currentLane = new ThreadLocal<>();
 
     private static ExtentReports extent;
-    private ExtentTest test;
+    private final ThreadLocal<ExtentTest> currentTest = new ThreadLocal<>();
+
+    private record ScenarioTiming(String name, Lane lane, long startNanos, Duration duration, Duration recovery) {
+
+        long endNanos() {
+            return startNanos + duration.plus(recovery).toNanos();
+        }
+    }
+
+    private final Queue<ScenarioTiming> timings = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Long> scenarioStart = new ThreadLocal<>();
+    private long suiteStart;
 
     @BeforeAll
     void globalSetup() {
@@ -74,6 +119,10 @@ public class ChaosTests {
         if (wiremockUrl == null)
             wiremockUrl = "http://localhost:8002";
 
+        loadRate = Double.parseDouble(envOrDefault("LOAD_RATE", "50"));
+        loadWindow = Duration.ofSeconds(Long.parseLong(envOrDefault("LOAD_WINDOW_SECONDS", "10")));
+        loadMix = envOrDefault("LOAD_MIX", "list=2,get=5,enrich=3");
+
         RestAssured.baseURI = msUrl;
         RestAssured.config = RestAssuredConfig.config()
                 .httpClient(HttpClientConfig.httpClientConfig()
@@ -84,30 +133,111 @@ public class ChaosTests {
         int toxiproxyPort = Integer.parseInt(toxiproxyUrl.split(":")[2]);
         toxiproxyClient = new ToxiproxyClient(toxiproxyHost, toxiproxyPort);
 
-        dbProxy = toxiproxyClient.getProxy("db_proxy");
-        redisProxy = toxiproxyClient.getProxy("redis_proxy");
-        extProxy = toxiproxyClient.getProxy("ext_proxy");
+        String[] laneUrls = envOrDefault("MS_LANE_URLS", msUrl).split(",");
+        for (int i = 0; i < laneUrls.length; i++) {
+            lanes.add(Lane.connect(i, laneUrls[i].trim(), toxiproxyClient));
+        }
 
         resetAllProxies();
-        log.info("Warmup: Waiting 10s for connections to stabilize...");
-        Thread.sleep(10000);
+        for (Lane lane : lanes) {
+            Duration ready = awaitLaneRecovered(lane);
+            log.info("{} ready after {}ms", lane, ready.toMillis());
+        }
+        freeLanes.addAll(lanes);
+        suiteStart = System.nanoTime();
     }
 
     @BeforeEach
-    void initTest(TestInfo testInfo) {
-        test = extent.createTest(testInfo.getDisplayName());
+    void initTest(TestInfo testInfo) throws InterruptedException {
+        ExtentTest test;
+        synchronized (extent) {
+            test = extent.createTest(testInfo.getDisplayName());
+        }
+        currentTest.set(test);
+        Lane lane = freeLanes.take();
+        currentLane.set(lane);
+        test.info("Running on " + lane + " at " + lane.msUrl());
+        scenarioStart.set(System.nanoTime());
     }
 
     @AfterEach
-    void stabilize() throws InterruptedException, IOException {
-        resetAllProxies();
-        Thread.sleep(1000);
+    void stabilize(TestInfo testInfo) throws InterruptedException, IOException {
+        Lane lane = lane();
+        Duration duration = Duration.ofNanos(System.nanoTime() - scenarioStart.get());
+        try {
+            resetProxies(lane);
+            Duration recovery = awaitLaneRecovered(lane);
+            test().info("Recovered in " + recovery.toMillis() + "ms");
+            timings.add(new ScenarioTiming(testInfo.getDisplayName(), lane, scenarioStart.get(), duration, recovery));
+        } finally {
+            currentLane.remove();
+            currentTest.remove();
+            freeLanes.add(lane);
+        }
+    }
+
+    private ExtentTest test() {
+        return currentTest.get();
+    }
+
+    private Lane lane() {
+        return currentLane.get();
+    }
+
+    /** Request against the service instance of the lane the current scenario holds. */
+    private RequestSpecification api() {
+        return given().baseUri(lane().msUrl());
     }
 
     private void resetAllProxies() throws IOException {
-        clearToxics(dbProxy);
-        clearToxics(redisProxy);
-        clearToxics(extProxy);
+        for (Lane lane : lanes) {
+            resetProxies(lane);
+        }
+    }
+
+    private void resetProxies(Lane lane) throws IOException {
+        clearToxics(lane.dbProxy());
+        clearToxics(lane.dbReplicaProxy());
+        clearToxics(lane.redisProxy());
+        clearToxics(lane.extProxy());
+    }
+
+    /**
+     * Waits until the lane reports UP and its {@code database} and {@code externalApi} breakers are
+     * closed. The service's own probe closes the database breaker; an open externalApi breaker only
+     * moves on when called, so while it is not closed each poll enriches a fresh item.
+     */
+    private Duration awaitLaneRecovered(Lane lane) throws InterruptedException {
+        return Await.until(lane + " to be UP with closed breakers", RECOVERY_TIMEOUT, () -> {
+            Response health = given().baseUri(lane.msUrl()).get("/actuator/health");
+            if (health.getStatusCode() != 200 || !"UP".equals(health.path("status"))) {
+                return false;
+            }
+            if (!breakerClosed(lane, "database")) {
+                return false;
+            }
+            if (breakerClosed(lane, "externalApi")) {
+                return true;
+            }
+            Number id = given().baseUri(lane.msUrl())
+                    .contentType(ContentType.JSON)
+                    .body("{\"name\": \"breaker-probe\", \"value\": 0.0}")
+                    .post("/api/items").then().extract().path("id");
+            given().baseUri(lane.msUrl()).get("/api/enrich/" + id);
+            return false;
+        });
+    }
+
+    private boolean breakerClosed(Lane lane, String name) {
+        Response state = given().baseUri(lane.msUrl())
+                .queryParam("tag", "name:" + name)
+                .queryParam("tag", "state:closed")
+                .get("/actuator/metrics/resilience4j.circuitbreaker.state");
+        if (state.getStatusCode() == 404) {
+            return true; // breaker not created yet: no call has been made through it
+        }
+        Number closed = state.path("measurements[0].value");
+        return closed != null && closed.doubleValue() == 1.0;
     }
 
     private void clearToxics(Proxy proxy) throws IOException {
@@ -130,20 +260,26 @@ public class ChaosTests {
         });
     }
 
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
     private String getCorrelationId() {
         return UUID.randomUUID().toString();
     }
 
     @Test
     @Order(0)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 0: Verify System Baseline Stability Under Normal Load")
     void baselineStabilityTest() {
-        test.assignCategory("Functional");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Functional");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: System should be healthy and return 201 Created for a valid POST request.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Response response = given()
+        Response response = api()
                 .filter(extentFilter())
                 .header("X-Correlation-Id", getCorrelationId())
                 .contentType(ContentType.JSON)
@@ -151,31 +287,32 @@ public class ChaosTests {
                 .when()
                 .post("/api/items");
 
-        test.info("Actual Status Code: " + response.getStatusCode());
+        test().info("Actual Status Code: " + response.getStatusCode());
 
         response.then()
                 .statusCode(201)
                 .body("name", is("baseline-item"))
                 .body("id", notNullValue());
 
-        test.pass(MarkupHelper.createLabel("ACTUAL: Baseline test passed - system is healthy.",
+        test().pass(MarkupHelper.createLabel("ACTUAL: Baseline test passed - system is healthy.",
                 com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
     }
 
     @Test
     @Order(1)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 1: Validate Service Resilience During High Database Latency (1s)")
     void testResilienceDuringHighDbLatency() throws IOException {
-        test.assignCategory("Network Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Network Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: Request should complete but take at least 1000ms due to injected DB latency.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        dbProxy.toxics().latency("db-latency", ToxicDirection.DOWNSTREAM, 1000);
+        lane().dbProxy().toxics().latency("db-latency", ToxicDirection.DOWNSTREAM, 1000);
 
         try {
             long start = System.currentTimeMillis();
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .contentType(ContentType.JSON)
@@ -184,36 +321,44 @@ public class ChaosTests {
                     .post("/api/items");
 
             long duration = System.currentTimeMillis() - start;
-            test.info("Actual Duration: " + duration + "ms");
+            test().info("Actual Duration: " + duration + "ms");
 
             response.then()
                     .statusCode(either(is(201)).or(is(503)).or(is(500)))
                     .header("X-Correlation-Id", notNullValue());
 
             Assertions.assertTrue(duration >= 1000, "Request should have taken at least 1000ms");
-            test.pass(MarkupHelper.createLabel("ACTUAL: Service handled latency. Response time: " + duration + "ms",
+            test().pass(MarkupHelper.createLabel("ACTUAL: Service handled latency. Response time: " + duration + "ms",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
-            dbProxy.toxics().get("db-latency").remove();
+            lane().dbProxy().toxics().get("db-latency").remove();
         }
     }
 
     @Test
     @Order(2)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 2: Verify Graceful Error Handling During Database Connection Outages")
-    void testGracefulHandlingOfDbOutage() throws IOException {
-        test.assignCategory("Network Chaos");
-        test.info(MarkupHelper.createLabel(
-                "EXPECTATION: Service should return 500/503 quickly once DB connection is severed.",
+    void testGracefulHandlingOfDbOutage() throws Exception {
+        test().assignCategory("Network Chaos");
+        test().info(MarkupHelper.createLabel(
+                "EXPECTATION: Service should return 500/503 quickly once DB connection is severed; once the database"
+                        + " breaker opens, writes are shed with 503 + Retry-After and cached reads still succeed.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        dbProxy.toxics().bandwidth("db-cut", ToxicDirection.DOWNSTREAM, 0);
+        Number cachedId = api()
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"cached-item\", \"value\": 2.0}")
+                .post("/api/items").then().statusCode(201).extract().path("id");
+        api().get("/api/items/" + cachedId).then().statusCode(200);
+
+        lane().dbProxy().toxics().bandwidth("db-cut", ToxicDirection.DOWNSTREAM, 0);
 
         try {
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .contentType(ContentType.JSON)
@@ -225,35 +370,58 @@ public class ChaosTests {
                     .statusCode(either(is(500)).or(is(503)))
                     .body("error", notNullValue());
 
-            test.pass(MarkupHelper.createLabel("ACTUAL: Service returned controlled error during DB blackout.",
+            Duration breakerOpen = Await.until("writes to be shed fast with Retry-After", RECOVERY_TIMEOUT, () -> {
+                Response write = api()
+                        .contentType(ContentType.JSON)
+                        .body("{\"name\": \"shed-item\", \"value\": 2.1}")
+                        .post("/api/items");
+                return write.getStatusCode() == 503 && write.getHeader("Retry-After") != null
+                        && write.getTime() < 1000;
+            });
+            test().info("Database breaker shedding writes after " + breakerOpen.toMillis() + "ms");
+
+            api()
+                    .filter(extentFilter())
+                    .header("X-Correlation-Id", getCorrelationId())
+                    .when()
+                    .get("/api/items/" + cachedId)
+                    .then()
+                    .statusCode(200)
+                    .body("name", is("cached-item"));
+
+            test().pass(MarkupHelper.createLabel("ACTUAL: Service returned controlled error during DB blackout.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
-            dbProxy.toxics().get("db-cut").remove();
+            lane().dbProxy().toxics().get("db-cut").remove();
         }
     }
 
     @Test
     @Order(3)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 3: Validate Performance SLA Under Excessive Redis Cache Latency")
-    void testSlaUnderRedisLatency() throws IOException {
-        test.assignCategory("Network Chaos");
-        test.info(MarkupHelper.createLabel("EXPECTATION: Redis fetch should take >500ms but still succeed.",
+    void testSlaUnderRedisLatency() throws Exception {
+        test().assignCategory("Network Chaos");
+        test().info(MarkupHelper.createLabel("EXPECTATION: Redis latency is cut off by the cache budget, fetch succeeds in <500ms;"
+                        + " repeated slow Redis calls trip the cache into bypass and reads stop waiting on Redis.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Integer id = given()
-                .filter(extentFilter())
-                .contentType(ContentType.JSON)
-                .body("{\"name\": \"redis-item\", \"value\": 3.0}")
-                .post("/api/items").then().extract().path("id");
+        // Written behind the service's back, so the id is in neither the lane's L1 nor Redis and every
+        // read has to go through the slow Redis lookup (an item POSTed on this lane would be an L1 hit)
+        long id = insertItemDirectly("redis-item", 3.0);
+        long afterTrip = insertItemDirectly("redis-bypass-item", 3.1);
+        // Item reads are read-only transactions, so wait until the replica has replayed both inserts
+        Await.until("direct inserts on the replica", RECOVERY_TIMEOUT, () -> api()
+                .get("/api/items?after=" + (afterTrip - 1) + "&limit=1").path("items[0].id") != null);
 
-        redisProxy.toxics().latency("redis-latency", ToxicDirection.DOWNSTREAM, 500);
+        lane().redisProxy().toxics().latency("redis-latency", ToxicDirection.DOWNSTREAM, 500);
 
         try {
             long start = System.currentTimeMillis();
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .when()
@@ -261,39 +429,67 @@ public class ChaosTests {
 
             response.then()
                     .statusCode(200)
-                    .body("id", is(id));
+                    .body("id", is((int) id));
 
             long duration = System.currentTimeMillis() - start;
-            test.info("Actual Duration: " + duration + "ms");
-            Assertions.assertTrue(duration >= 500, "Request should have taken at least 500ms");
-            test.pass(MarkupHelper.createLabel("ACTUAL: Service handled Redis latency effectively.",
+            test().info("Actual Duration: " + duration + "ms");
+            Assertions.assertTrue(duration < 500, "Redis latency should not reach the caller");
+
+            Duration tripped = Await.until(lane() + " Redis cache to be bypassed", RECOVERY_TIMEOUT, () -> {
+                api().get("/api/items/" + id).then().statusCode(200);
+                return redisBypassed(lane());
+            });
+            test().info("Redis bypassed after " + tripped.toMillis() + "ms");
+
+            start = System.currentTimeMillis();
+            api()
+                    .filter(extentFilter())
+                    .header("X-Correlation-Id", getCorrelationId())
+                    .when()
+                    .get("/api/items/" + afterTrip)
+                    .then()
+                    .statusCode(200)
+                    .body("id", is((int) afterTrip));
+            long bypassedDuration = System.currentTimeMillis() - start;
+            test().info("Duration while bypassed: " + bypassedDuration + "ms");
+            Assertions.assertTrue(bypassedDuration < 200,
+                    "A bypassed read should not wait on the 200ms Redis command timeout");
+            test().pass(MarkupHelper.createLabel("ACTUAL: Service handled Redis latency effectively.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
-            redisProxy.toxics().get("redis-latency").remove();
+            lane().redisProxy().toxics().get("redis-latency").remove();
         }
+        Await.until(lane() + " Redis cache back in use", RECOVERY_TIMEOUT, () -> !redisBypassed(lane()));
+    }
+
+    private boolean redisBypassed(Lane lane) {
+        Response bypass = given().baseUri(lane.msUrl()).get("/actuator/metrics/cache.redis.bypass");
+        Number value = bypass.getStatusCode() == 200 ? bypass.path("measurements[0].value") : null;
+        return value != null && value.doubleValue() >= 1.0;
     }
 
     @Test
     @Order(4)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 4: Verify Transparent Fallback from Cache to DB During Redis Failures")
     void testCacheToDbFallbackOnRedisFailure() throws IOException {
-        test.assignCategory("Network Chaos");
-        test.info(MarkupHelper.createLabel("EXPECTATION: System should fallback to Database if Redis is unavailable.",
+        test().assignCategory("Network Chaos");
+        test().info(MarkupHelper.createLabel("EXPECTATION: System should fallback to Database if Redis is unavailable.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Integer id = given()
+        Integer id = api()
                 .filter(extentFilter())
                 .contentType(ContentType.JSON)
                 .body("{\"name\": \"redis-cut-item\", \"value\": 4.0}")
                 .post("/api/items").then().extract().path("id");
 
-        redisProxy.toxics().bandwidth("redis-cut", ToxicDirection.DOWNSTREAM, 0);
+        lane().redisProxy().toxics().bandwidth("redis-cut", ToxicDirection.DOWNSTREAM, 0);
 
         try {
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .when()
@@ -301,36 +497,37 @@ public class ChaosTests {
 
             response.then()
                     .statusCode(either(is(200)).or(is(500)));
-            test.pass(MarkupHelper.createLabel(
+            test().pass(MarkupHelper.createLabel(
                     "ACTUAL: Service remained operational or failed gracefully during Redis blackout.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
-            redisProxy.toxics().get("redis-cut").remove();
+            lane().redisProxy().toxics().get("redis-cut").remove();
         }
     }
 
     @Test
     @Order(5)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 5: Validate Circuit Breaker Auto-Triggering on External API Timeouts")
     void testCircuitBreakerOnExternalApiTimeout() throws IOException {
-        test.assignCategory("Dependency Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Dependency Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: Resilience4j Circuit Breaker/TimeLimiter should trigger fallback on 3s timeout.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Integer id = given()
+        Integer id = api()
                 .filter(extentFilter())
                 .contentType(ContentType.JSON)
                 .body("{\"name\": \"enrich-item\", \"value\": 5.0}")
                 .post("/api/items").then().extract().path("id");
 
-        extProxy.toxics().latency("ext-latency", ToxicDirection.DOWNSTREAM, 3000);
+        lane().extProxy().toxics().latency("ext-latency", ToxicDirection.DOWNSTREAM, 3000);
 
         try {
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .when()
@@ -339,26 +536,27 @@ public class ChaosTests {
             response.then()
                     .statusCode(200)
                     .body("externalInfo.description", containsString("Fallback"));
-            test.pass(MarkupHelper.createLabel("ACTUAL: Resilience4j Fallback triggered successfully on timeout.",
+            test().pass(MarkupHelper.createLabel("ACTUAL: Resilience4j Fallback triggered successfully on timeout.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
-            extProxy.toxics().get("ext-latency").remove();
+            lane().extProxy().toxics().get("ext-latency").remove();
         }
     }
 
     @Test
     @Order(6)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 6: Verify System Health Masking During Upstream 5xx Errors")
     void testMaskingOfUpstreamErrors() throws IOException {
-        test.assignCategory("Dependency Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Dependency Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: System should mask upstream 500 errors by returning fallback data.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Integer id = given()
+        Integer id = api()
                 .filter(extentFilter())
                 .contentType(ContentType.JSON)
                 .body("{\"name\": \"enrich-500-item\", \"value\": 6.0}")
@@ -369,7 +567,7 @@ public class ChaosTests {
         given().baseUri(wiremockUrl).body(mapping).post("/__admin/mappings");
 
         try {
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .when()
@@ -378,10 +576,10 @@ public class ChaosTests {
             response.then()
                     .statusCode(200)
                     .body("externalInfo.description", containsString("Fallback"));
-            test.pass(MarkupHelper.createLabel("ACTUAL: System successfully masked upstream 500 with fallback data.",
+            test().pass(MarkupHelper.createLabel("ACTUAL: System successfully masked upstream 500 with fallback data.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
         }
@@ -389,17 +587,18 @@ public class ChaosTests {
 
     @Test
     @Order(8)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("Scenario 8: Verify Service Recovery After Infrastructure Container Freeze (Pause)")
     void testRecoveryAfterContainerPause() throws Exception {
-        test.assignCategory("Infrastructure Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Infrastructure Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: System should time out during DB freeze and recover immediately after unpause.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        runPumba("pause --duration 5s chaos-postgres");
-        Thread.sleep(1000);
+        Process pause = startPumba("pause --duration 5s chaos-postgres");
+        Await.until("chaos-postgres to be paused", Duration.ofSeconds(15), () -> containerPaused("chaos-postgres"));
 
-        Response response1 = given()
+        Response response1 = api()
                 .filter(extentFilter())
                 .header("X-Correlation-Id", getCorrelationId())
                 .contentType(ContentType.JSON)
@@ -409,31 +608,33 @@ public class ChaosTests {
 
         response1.then().statusCode(either(is(500)).or(is(503)).or(is(201)));
 
-        Thread.sleep(12000);
-
-        Response response2 = given()
-                .filter(extentFilter())
-                .header("X-Correlation-Id", getCorrelationId())
-                .contentType(ContentType.JSON)
-                .body("{\"name\": \"recovered-item\", \"value\": 8.1}")
-                .when()
-                .post("/api/items");
-
-        response2.then().statusCode(201);
-        test.pass(MarkupHelper.createLabel("ACTUAL: Service recovered fully after database unpause.",
+        pause.waitFor(15, TimeUnit.SECONDS);
+        Duration recovery = Await.until("a write to succeed after unpause", RECOVERY_TIMEOUT,
+                () -> api()
+                        .header("X-Correlation-Id", getCorrelationId())
+                        .contentType(ContentType.JSON)
+                        .body("{\"name\": \"recovered-item\", \"value\": 8.1}")
+                        .post("/api/items").getStatusCode() == 201);
+        test().info("Writes recovered " + recovery.toMillis() + "ms after unpause");
+        // Every lane's database probe saw the pause, not just this one's
+        for (Lane other : lanes) {
+            awaitLaneRecovered(other);
+        }
+        test().pass(MarkupHelper.createLabel("ACTUAL: Service recovered fully after database unpause.",
                 com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
     }
 
     @Test
     @Order(7)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 7: Validate Resilience Against Malformed Data from Downstream Dependencies")
     void testHandlingOfMalformedDownstreamData() throws IOException {
-        test.assignCategory("Dependency Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Dependency Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: Parsing errors (Jackson) should be caught and converted to fallbacks.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        Integer id = given()
+        Integer id = api()
                 .filter(extentFilter())
                 .contentType(ContentType.JSON)
                 .body("{\"name\": \"enrich-malformed-item\", \"value\": 7.0}")
@@ -444,7 +645,7 @@ public class ChaosTests {
         given().baseUri(wiremockUrl).body(mapping).post("/__admin/mappings");
 
         try {
-            Response response = given()
+            Response response = api()
                     .filter(extentFilter())
                     .header("X-Correlation-Id", getCorrelationId())
                     .when()
@@ -453,10 +654,10 @@ public class ChaosTests {
             response.then()
                     .statusCode(200)
                     .body("externalInfo.description", containsString("Fallback"));
-            test.pass(MarkupHelper.createLabel("ACTUAL: Jackson parsing error caught and resolved via fallback.",
+            test().pass(MarkupHelper.createLabel("ACTUAL: Jackson parsing error caught and resolved via fallback.",
                     com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
         } catch (Exception e) {
-            test.fail(e);
+            test().fail(e);
             throw e;
         } finally {
         }
@@ -464,67 +665,305 @@ public class ChaosTests {
 
     @Test
     @Order(9)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("Scenario 9: Validate Automatic Connection Re-establishment After Component Reboots")
     void testReconnectionAfterComponentRestart() throws Exception {
-        test.assignCategory("Infrastructure Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Infrastructure Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: System should automatically reconnect to Redis after the component is restarted.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
         runPumba("restart --interval 1s chaos-redis");
-        Thread.sleep(2000);
+        Duration recovery = Await.until("health to be UP after the Redis restart", RECOVERY_TIMEOUT,
+                () -> "UP".equals(api().get("/actuator/health").path("status")));
+        test().info("Health UP " + recovery.toMillis() + "ms after restart");
 
-        Response response = given()
+        Response response = api()
                 .filter(extentFilter())
                 .header("X-Correlation-Id", getCorrelationId())
                 .when()
                 .get("/actuator/health");
 
         response.then().statusCode(200).body("status", is("UP"));
-        test.pass(
+        test().pass(
                 MarkupHelper.createLabel("ACTUAL: Service automatically reconnected to Redis after component restart.",
                         com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
     }
 
     @Test
     @Order(10)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
     @DisplayName("Scenario 10: Verify High Availability and Self-Healing via Host Level Crashes")
     void testHighAvailabilityAfterProcessKill() throws Exception {
-        test.assignCategory("Infrastructure Chaos");
-        test.info(MarkupHelper.createLabel(
+        test().assignCategory("Infrastructure Chaos");
+        test().info(MarkupHelper.createLabel(
                 "EXPECTATION: Service should auto-restart and become healthy via Docker policy.",
                 com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
 
-        runPumba("kill --signal SIGKILL chaos-ms");
+        runPumba("kill --signal SIGKILL " + lane().container());
 
-        int attempts = 0;
-        boolean recovered = false;
-        while (attempts < 20) {
-            try {
-                Response response = given().when().get("/actuator/health");
-                if (response.getStatusCode() == 200) {
-                    recovered = true;
-                    break;
-                }
-            } catch (Exception e) {
+        Duration recovery = Await.until(lane().container() + " to recover after kill", RECOVERY_TIMEOUT,
+                () -> api().when().get("/actuator/health").getStatusCode() == 200);
+        test().info("Recovered " + recovery.toMillis() + "ms after kill");
+        test().pass(MarkupHelper.createLabel("ACTUAL: Microservice auto-recovered via Docker restart policy.",
+                com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
+    }
+
+    @Test
+    @Order(11)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
+    @DisplayName("Scenario 11: Measure Throughput and Tail Latency Under Open-Loop Load Across Toxics")
+    void testLatencyUnderLoadAcrossToxics() throws Exception {
+        test().assignCategory("Load Chaos");
+        test().info(MarkupHelper.createLabel(
+                "EXPECTATION: Under a fixed arrival rate every toxic degrades only its own window; the 'after' window "
+                        + "is back under " + (int) (MAX_RECOVERED_ERROR_RATE * 100) + "% errors.",
+                com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
+        test().info("Rate: " + loadRate + " req/s, window: " + loadWindow.toSeconds() + "s, mix: " + loadMix);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Number id = api()
+                    .contentType(ContentType.JSON)
+                    .body("{\"name\": \"load-item-" + i + "\", \"value\": 11.0}")
+                    .post("/api/items").then().statusCode(201).extract().path("id");
+            ids.add(id.longValue());
+        }
+
+        List<LoadWindow> windows;
+        try (OpenLoopLoadGenerator load = new OpenLoopLoadGenerator(URI.create(lane().msUrl()), loadRate,
+                RequestMix.parse(loadMix, ids), Duration.ofSeconds(5))) {
+            load.start();
+            Thread.sleep(loadWindow.toMillis()); // warmup, not recorded
+            runToxicUnderLoad(load, "DB replica latency 200ms", lane().dbReplicaProxy(),
+                    p -> p.toxics().latency("load-db-latency", ToxicDirection.DOWNSTREAM, 200));
+            runToxicUnderLoad(load, "Redis latency 500ms", lane().redisProxy(),
+                    p -> p.toxics().latency("load-redis-latency", ToxicDirection.DOWNSTREAM, 500));
+            runToxicUnderLoad(load, "External API latency 3s", lane().extProxy(),
+                    p -> p.toxics().latency("load-ext-latency", ToxicDirection.DOWNSTREAM, 3000));
+            windows = load.stop();
+        }
+
+        LoadReport.attach(test(), windows, Path.of("target", "load"));
+
+        for (LoadWindow window : windows) {
+            Assertions.assertTrue(window.total().requests() > 0,
+                    "No requests recorded for " + window.scenario() + " / " + window.phase());
+            if ("after".equals(window.phase())) {
+                Assertions.assertTrue(window.total().errorRate() < MAX_RECOVERED_ERROR_RATE,
+                        window.scenario() + " did not recover: error rate " + window.total().errorRate());
             }
-            Thread.sleep(3000);
-            attempts++;
         }
+        test().pass(MarkupHelper.createLabel("ACTUAL: Service recovered after every toxic under sustained load.",
+                com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
+    }
+
+    @Test
+    @Order(12)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ_WRITE)
+    @DisplayName("Scenario 12: Verify Reads Fall Back to the Primary When the Replica Is Down or Lagging")
+    void testReadReplicaFallback() throws Exception {
+        test().assignCategory("Database Chaos");
+        test().info(MarkupHelper.createLabel(
+                "EXPECTATION: Reads keep succeeding from the primary while the replica is unreachable, and a replica"
+                        + " that falls behind is taken out of rotation so freshly written items are still read back.",
+                com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
+
+        Number id = api()
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"replica-item\", \"value\": 12.0}")
+                .post("/api/items").then().statusCode(201).extract().path("id");
+        Await.until(lane() + " replica in rotation", RECOVERY_TIMEOUT, () -> replicaAvailable(lane()));
+
+        lane().dbReplicaProxy().disable();
+        try {
+            Duration fallback = Await.until("reads to fall back to the primary", RECOVERY_TIMEOUT,
+                    () -> !replicaAvailable(lane())
+                            && api().get("/api/items?after=" + (id.longValue() - 1) + "&limit=1").getStatusCode() == 200);
+            test().info("Replica out of rotation after " + fallback.toMillis() + "ms");
+            api()
+                    .filter(extentFilter())
+                    .header("X-Correlation-Id", getCorrelationId())
+                    .when()
+                    .get("/api/items?after=" + (id.longValue() - 1) + "&limit=1")
+                    .then()
+                    .statusCode(200)
+                    .body("items[0].id", is(id.intValue()));
+        } finally {
+            lane().dbReplicaProxy().enable();
+        }
+        Await.until(lane() + " replica back in rotation", RECOVERY_TIMEOUT, () -> replicaAvailable(lane()));
+
+        replicaSql("select pg_wal_replay_pause()");
+        try {
+            Number fresh = api()
+                    .contentType(ContentType.JSON)
+                    .body("{\"name\": \"lagged-item\", \"value\": 12.1}")
+                    .post("/api/items").then().statusCode(201).extract().path("id");
+            Duration evicted = Await.until("lagging replica to leave the rotation", RECOVERY_TIMEOUT,
+                    () -> !replicaAvailable(lane()));
+            test().info("Lagging replica out of rotation after " + evicted.toMillis() + "ms");
+            api()
+                    .filter(extentFilter())
+                    .header("X-Correlation-Id", getCorrelationId())
+                    .when()
+                    .get("/api/items?after=" + (fresh.longValue() - 1) + "&limit=1")
+                    .then()
+                    .statusCode(200)
+                    .body("items[0].name", is("lagged-item"));
+        } finally {
+            replicaSql("select pg_wal_replay_resume()");
+        }
+        Await.until(lane() + " replica caught up", RECOVERY_TIMEOUT, () -> replicaAvailable(lane()));
+
+        test().pass(MarkupHelper.createLabel(
+                "ACTUAL: Reads were served by the primary while the replica was down or lagging.",
+                com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
+    }
+
+    @Test
+    @Order(13)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
+    @DisplayName("Scenario 13: Verify Unsupported Accept Types Are Rejected With 406")
+    void testNotAcceptableForUnsupportedAccept() {
+        test().assignCategory("Functional");
+        test().info(MarkupHelper.createLabel(
+                "EXPECTATION: A request accepting only a type no converter can produce gets 406 Not Acceptable,"
+                        + " not a 500.",
+                com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
+
+        Number id = api()
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"accept-item\", \"value\": 13.0}")
+                .post("/api/items").then().statusCode(201).extract().path("id");
+
+        api()
+                .filter(extentFilter())
+                .header("X-Correlation-Id", getCorrelationId())
+                .accept("application/xml")
+                .when()
+                .get("/api/items/" + id)
+                .then()
+                .statusCode(406);
 
-        Assertions.assertTrue(recovered, "MS should have recovered after kill");
-        test.pass(MarkupHelper.createLabel("ACTUAL: Microservice auto-recovered via Docker restart policy.",
+        test().pass(MarkupHelper.createLabel("ACTUAL: Unsupported Accept type was answered with 406.",
                 com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
     }
 
+    @Test
+    @Order(14)
+    @ResourceLock(value = SHARED_INFRA, mode = ResourceAccessMode.READ)
+    @DisplayName("Scenario 14: Verify Server-Timing Is Sent on 304 and Streamed Responses")
+    void testServerTimingOnBodilessAndStreamedResponses() {
+        test().assignCategory("Functional");
+        test().info(MarkupHelper.createLabel(
+                "EXPECTATION: A 304 revalidation and an NDJSON stream both carry a Server-Timing header with a total.",
+                com.aventstack.extentreports.markuputils.ExtentColor.BLUE));
+
+        Number id = api()
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"timing-item\", \"value\": 14.0}")
+                .post("/api/items").then().statusCode(201).extract().path("id");
+        String etag = api().get("/api/items/" + id).then().statusCode(200).extract().header("ETag");
+
+        api()
+                .filter(extentFilter())
+                .header("X-Correlation-Id", getCorrelationId())
+                .header("If-None-Match", etag)
+                .when()
+                .get("/api/items/" + id)
+                .then()
+                .statusCode(304)
+                .header("Server-Timing", containsString("total;dur="));
+
+        api()
+                .filter(extentFilter())
+                .header("X-Correlation-Id", getCorrelationId())
+                .accept("application/x-ndjson")
+                .when()
+                .get("/api/items")
+                .then()
+                .statusCode(200)
+                .header("Server-Timing", containsString("total;dur="));
+
+        test().pass(MarkupHelper.createLabel("ACTUAL: Server-Timing was present on the 304 and the NDJSON stream.",
+                com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
+    }
+
+    private boolean replicaAvailable(Lane lane) {
+        Response available = given().baseUri(lane.msUrl()).get("/actuator/metrics/db.replica.available");
+        Number value = available.getStatusCode() == 200 ? available.path("measurements[0].value") : null;
+        return value != null && value.doubleValue() >= 1.0;
+    }
+
+    private void replicaSql(String sql) throws IOException, InterruptedException {
+        psql("chaos-postgres-replica", sql);
+    }
+
+    /** Inserts an item on the primary without going through any service instance and returns its id. */
+    private long insertItemDirectly(String name, double value) throws IOException, InterruptedException {
+        // A sequence value drawn here is never handed out as part of a service's pooled id block
+        String id = psql("chaos-postgres", "insert into items (id, name, value, version) values (nextval('items_seq'), '"
+                + name + "', " + value + ", 0) returning id");
+        return Long.parseLong(id.lines().findFirst().orElseThrow().trim());
+    }
+
+    private String psql(String container, String sql) throws IOException, InterruptedException {
+        Process psql = new ProcessBuilder("docker", "exec", container,
+                "psql", "-U", envOrDefault("POSTGRES_USER", "chaos_user"),
+                "-d", envOrDefault("POSTGRES_DB", "chaos_db"), "-tAq", "-c", sql)
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(psql.getInputStream().readAllBytes()).trim();
+        Assertions.assertEquals(0, psql.waitFor(), "psql '" + sql + "' failed: " + output);
+        return output;
+    }
+
+    @FunctionalInterface
+    private interface ToxicApplier {
+        Toxic apply(Proxy proxy) throws IOException;
+    }
+
+    private void runToxicUnderLoad(OpenLoopLoadGenerator load, String scenario, Proxy proxy, ToxicApplier applier)
+            throws IOException, InterruptedException {
+        load.startWindow(scenario, "before");
+        Thread.sleep(loadWindow.toMillis());
+        Toxic toxic = applier.apply(proxy);
+        try {
+            load.startWindow(scenario, "during");
+            Thread.sleep(loadWindow.toMillis());
+        } finally {
+            toxic.remove();
+        }
+        load.startWindow(scenario, "after");
+        Thread.sleep(loadWindow.toMillis());
+        load.pauseRecording();
+    }
+
     private void runPumba(String command) throws Exception {
+        startPumba(command).waitFor(15, TimeUnit.SECONDS);
+    }
+
+    private Process startPumba(String command) throws IOException {
         String fullCmd = "docker run --rm -v /var/run/docker.sock:/var/run/docker.sock gaiaadm/pumba " + command;
         log.info("Executing: {}", fullCmd);
         // Note: In some environments, we might need to use a specific network or target
         // by label
         // The user suggested using label com.example.project=chaos-spring-ms
-        Process p = Runtime.getRuntime().exec(fullCmd);
-        p.waitFor(15, TimeUnit.SECONDS);
+        return Runtime.getRuntime().exec(fullCmd);
+    }
+
+    private boolean containerPaused(String container) {
+        try {
+            Process inspect = new ProcessBuilder("docker", "inspect", "-f", "{{.State.Paused}}", container).start();
+            String paused = new String(inspect.getInputStream().readAllBytes()).trim();
+            return inspect.waitFor() == 0 && "true".equals(paused);
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     private Filter extentFilter() {
@@ -532,19 +971,19 @@ public class ChaosTests {
                 FilterContext ctx) -> {
             Response response = ctx.next(requestSpec, responseSpec);
 
-            test.info("<b>Request Details:</b>");
-            test.info("Method: " + requestSpec.getMethod());
-            test.info("URI: " + requestSpec.getURI());
+            test().info("<b>Request Details:</b>");
+            test().info("Method: " + requestSpec.getMethod());
+            test().info("URI: " + requestSpec.getURI());
             if (requestSpec.getBody() != null) {
-                test.info("Request Body:");
-                test.info(MarkupHelper.createCodeBlock(requestSpec.getBody().toString(), CodeLanguage.JSON));
+                test().info("Request Body:");
+                test().info(MarkupHelper.createCodeBlock(requestSpec.getBody().toString(), CodeLanguage.JSON));
             }
 
-            test.info("<b>Response Details:</b>");
-            test.info("Status Code: " + response.getStatusCode());
+            test().info("<b>Response Details:</b>");
+            test().info("Status Code: " + response.getStatusCode());
             if (response.getBody() != null && !response.getBody().asString().isEmpty()) {
-                test.info("Response Body:");
-                test.info(MarkupHelper.createCodeBlock(response.getBody().asString(), CodeLanguage.JSON));
+                test().info("Response Body:");
+                test().info(MarkupHelper.createCodeBlock(response.getBody().asString(), CodeLanguage.JSON));
             }
 
             return response;
@@ -555,7 +994,67 @@ public class ChaosTests {
     void tearDown() throws IOException {
         resetAllProxies();
         if (extent != null) {
+            reportSuiteTiming();
             extent.flush();
         }
     }
+
+    /**
+     * Wall-clock time of the scenarios against the sum of their individual durations, i.e. what the
+     * same scenarios would have taken back to back on one lane.
+     */
+    private void reportSuiteTiming() {
+        Duration wallClock = Duration.ofNanos(System.nanoTime() - suiteStart);
+        Duration serial = timings.stream().map(t -> t.duration().plus(t.recovery()))
+                .reduce(Duration.ZERO, Duration::plus);
+        Duration saved = serial.minus(wallClock);
+        int peakOverlap = peakOverlap();
+
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"<b>Scenario</b>", "<b>Lane</b>", "<b>Duration (s)</b>", "<b>Recovery (s)</b>"});
+        timings.stream()
+                .sorted(Comparator.comparing(ScenarioTiming::duration).reversed())
+                .forEach(t -> rows.add(new String[]{t.name(), Integer.toString(t.lane().index()),
+                        seconds(t.duration()), seconds(t.recovery())}));
+        rows.add(new String[]{"<b>Sum (serial)</b>", "", seconds(serial), ""});
+        rows.add(new String[]{"<b>Wall clock (" + lanes.size() + " lanes)</b>", "", seconds(wallClock), ""});
+        rows.add(new String[]{"<b>Saved</b>", "", seconds(saved), ""});
+        rows.add(new String[]{"<b>Peak concurrent scenarios</b>", "", Integer.toString(peakOverlap), ""});
+
+        ExtentTest timing = extent.createTest("Suite Timing");
+        timing.assignCategory("Suite");
+        timing.info(MarkupHelper.createTable(rows.toArray(String[][]::new)));
+        if (peakOverlap > 1) {
+            timing.pass(MarkupHelper.createLabel("Parallel lanes saved " + seconds(saved) + "s of " + seconds(serial)
+                    + "s serial scenario time.", com.aventstack.extentreports.markuputils.ExtentColor.GREEN));
+        } else {
+            timing.warning("No scenarios overlapped: the suite ran serially on " + lanes.size() + " lane(s).");
+        }
+        extent.setSystemInfo("Lanes", Integer.toString(lanes.size()));
+        extent.setSystemInfo("Suite wall clock (s)", seconds(wallClock));
+        extent.setSystemInfo("Serial scenario time (s)", seconds(serial));
+        extent.setSystemInfo("Peak concurrent scenarios", Integer.toString(peakOverlap));
+    }
+
+    /** Most scenarios (including their recovery) that were running at the same instant. */
+    private int peakOverlap() {
+        List<long[]> events = new ArrayList<>();
+        for (ScenarioTiming t : timings) {
+            events.add(new long[]{t.startNanos(), 1});
+            events.add(new long[]{t.endNanos(), -1});
+        }
+        // Ends sort before starts at the same instant, so back-to-back scenarios don't count as overlapping
+        events.sort(Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[1]));
+        int running = 0;
+        int peak = 0;
+        for (long[] event : events) {
+            running += (int) event[1];
+            peak = Math.max(peak, running);
+        }
+        return peak;
+    }
+
+    private static String seconds(Duration duration) {
+        return String.format(java.util.Locale.ROOT, "%.1f", duration.toMillis() / 1000.0);
+    }
 }
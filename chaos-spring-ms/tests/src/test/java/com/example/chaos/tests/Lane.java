@@ -0,0 +1,41 @@
+package com.example.chaos.tests;
+
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+
+import java.io.IOException;
+
+/**
+ * One service instance together with the Toxiproxy proxies it talks through. Lane 0 is the
+ * original {@code chaos-ms} on {@code db_proxy}/{@code db_replica_proxy}/{@code redis_proxy}/{@code ext_proxy};
+ * lane N is {@code chaos-ms-N} on the {@code _N}-suffixed proxies. A scenario holds a lane exclusively,
+ * so its toxics and breaker state never leak into a scenario running on another lane.
+ */
+record Lane(int index, String msUrl, String container, Proxy dbProxy, Proxy dbReplicaProxy, Proxy redisProxy,
+            Proxy extProxy) {
+
+    private static final int DB_PORT = 15432;
+    private static final int DB_REPLICA_PORT = 15532;
+    private static final int REDIS_PORT = 16379;
+    private static final int EXT_PORT = 18080;
+
+    /** Looks up the lane's proxies, creating any that the bootstrap script has not. */
+    static Lane connect(int index, String msUrl, ToxiproxyClient toxiproxy) throws IOException {
+        String suffix = index == 0 ? "" : "_" + index;
+        return new Lane(index, msUrl, index == 0 ? "chaos-ms" : "chaos-ms-" + index,
+                proxy(toxiproxy, "db_proxy" + suffix, DB_PORT + index, "postgres:5432"),
+                proxy(toxiproxy, "db_replica_proxy" + suffix, DB_REPLICA_PORT + index, "postgres-replica:5432"),
+                proxy(toxiproxy, "redis_proxy" + suffix, REDIS_PORT + index, "redis:6379"),
+                proxy(toxiproxy, "ext_proxy" + suffix, EXT_PORT + index, "wiremock:8080"));
+    }
+
+    private static Proxy proxy(ToxiproxyClient toxiproxy, String name, int port, String upstream) throws IOException {
+        Proxy proxy = toxiproxy.getProxyOrNull(name);
+        return proxy != null ? proxy : toxiproxy.createProxy(name, "0.0.0.0:" + port, upstream);
+    }
+
+    @Override
+    public String toString() {
+        return "lane " + index + " (" + container + ")";
+    }
+}
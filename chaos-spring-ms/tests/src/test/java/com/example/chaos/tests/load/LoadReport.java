@@ -0,0 +1,173 @@
+package com.example.chaos.tests.load;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders load windows into the Extent report: per scenario, a percentile table for every
+ * phase/endpoint and an HdrHistogram-style percentile distribution chart (inline SVG) comparing
+ * the phases. Raw distributions are also written as {@code .hgrm} files for offline plotting.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final double MAX_PERCENTILE = 99.99;
+    private static final String[] COLORS = {"#4caf50", "#f44336", "#2196f3", "#ff9800", "#9c27b0"};
+    private static final int WIDTH = 720;
+    private static final int HEIGHT = 320;
+    private static final int MARGIN = 50;
+
+    private LoadReport() {
+    }
+
+    public static void attach(ExtentTest test, List<LoadWindow> windows, Path rawDirectory) throws IOException {
+        Map<String, List<LoadWindow>> byScenario = new LinkedHashMap<>();
+        windows.forEach(w -> byScenario.computeIfAbsent(w.scenario(), s -> new ArrayList<>()).add(w));
+
+        Files.createDirectories(rawDirectory);
+        for (Map.Entry<String, List<LoadWindow>> scenario : byScenario.entrySet()) {
+            test.info("<b>Load: " + scenario.getKey() + "</b>");
+            test.info(MarkupHelper.createTable(table(scenario.getValue()), "table-sm"));
+            test.info(chart(scenario.getValue()));
+            for (LoadWindow window : scenario.getValue()) {
+                writeDistribution(rawDirectory, window);
+            }
+        }
+        test.info("Raw latency distributions (.hgrm, ms): " + rawDirectory.toAbsolutePath());
+    }
+
+    private static String[][] table(List<LoadWindow> windows) {
+        List<String[]> rows = new ArrayList<>();
+        List<String> header = new ArrayList<>(List.of("Phase", "Endpoint", "Requests", "Req/s", "Errors"));
+        for (double p : PERCENTILES) {
+            header.add("p" + (p == Math.rint(p) ? Long.toString((long) p) : Double.toString(p)) + " (ms)");
+        }
+        header.add("Max (ms)");
+        header.add("Service p99 (ms)");
+        rows.add(header.stream().map(h -> "<b>" + h + "</b>").toArray(String[]::new));
+
+        for (LoadWindow window : windows) {
+            rows.add(row(window, "all", window.total()));
+            window.byEndpoint().forEach((endpoint, stats) -> rows.add(row(window, endpoint, stats)));
+        }
+        return rows.toArray(String[][]::new);
+    }
+
+    private static String[] row(LoadWindow window, String endpoint, LoadWindow.Stats stats) {
+        List<String> cells = new ArrayList<>();
+        cells.add(window.phase());
+        cells.add(endpoint);
+        cells.add(Long.toString(stats.requests()));
+        double seconds = window.duration().toNanos() / 1e9;
+        cells.add(format(seconds > 0 ? stats.requests() / seconds : 0));
+        cells.add(stats.errors() + " (" + format(stats.errorRate() * 100) + "%)");
+        for (double p : PERCENTILES) {
+            cells.add(millis(stats.latency().getValueAtPercentile(p)));
+        }
+        cells.add(millis(stats.latency().getMaxValue()));
+        cells.add(millis(stats.serviceTime().getValueAtPercentile(99)));
+        return cells.toArray(String[]::new);
+    }
+
+    /**
+     * Latency against percentile on the usual log scale ({@code 1 / (1 - p)}), so the tail gets as
+     * much room as the median.
+     */
+    private static String chart(List<LoadWindow> windows) {
+        double maxX = Math.log10(1 / (1 - MAX_PERCENTILE / 100));
+        double maxMillis = windows.stream()
+                .mapToDouble(w -> w.total().latency().getValueAtPercentile(MAX_PERCENTILE) / 1000.0)
+                .max().orElse(1);
+        maxMillis = niceCeiling(Math.max(maxMillis, 1));
+        int plotWidth = WIDTH - 2 * MARGIN;
+        int plotHeight = HEIGHT - 2 * MARGIN;
+
+        StringBuilder svg = new StringBuilder();
+        svg.append("<svg xmlns='http://www.w3.org/2000/svg' width='").append(WIDTH).append("' height='").append(HEIGHT)
+                .append("' style='background:#fff;font:11px sans-serif'>");
+        svg.append(line(MARGIN, HEIGHT - MARGIN, WIDTH - MARGIN, HEIGHT - MARGIN, "#333"));
+        svg.append(line(MARGIN, MARGIN, MARGIN, HEIGHT - MARGIN, "#333"));
+        for (int i = 0; i <= 4; i++) {
+            double y = HEIGHT - MARGIN - plotHeight * i / 4.0;
+            svg.append(line(MARGIN, y, WIDTH - MARGIN, y, "#eee"));
+            svg.append(text(MARGIN - 6, y + 4, format(maxMillis * i / 4), "end"));
+        }
+        String[] ticks = {"0%", "90%", "99%", "99.9%", "99.99%"};
+        for (int i = 0; i < ticks.length; i++) {
+            double x = MARGIN + plotWidth * i / maxX;
+            svg.append(line(x, MARGIN, x, HEIGHT - MARGIN, "#eee"));
+            svg.append(text(x, HEIGHT - MARGIN + 16, ticks[i], "middle"));
+        }
+        svg.append(text(WIDTH / 2.0, HEIGHT - 10, "percentile", "middle"));
+        svg.append(text(12, MARGIN - 14, "latency (ms)", "start"));
+
+        for (int i = 0; i < windows.size(); i++) {
+            LoadWindow window = windows.get(i);
+            String color = COLORS[i % COLORS.length];
+            StringBuilder points = new StringBuilder();
+            for (HistogramIterationValue value : window.total().latency().percentiles(5)) {
+                double percentile = Math.min(value.getPercentileLevelIteratedTo(), MAX_PERCENTILE);
+                double x = MARGIN + plotWidth * Math.log10(1 / (1 - percentile / 100)) / maxX;
+                double y = HEIGHT - MARGIN
+                        - plotHeight * Math.min(value.getValueIteratedTo() / 1000.0 / maxMillis, 1);
+                points.append(format(x)).append(',').append(format(y)).append(' ');
+                if (percentile >= MAX_PERCENTILE) {
+                    break;
+                }
+            }
+            svg.append("<polyline fill='none' stroke-width='2' stroke='").append(color)
+                    .append("' points='").append(points).append("'/>");
+            double legendY = MARGIN + 14 * i;
+            svg.append(line(MARGIN + 10, legendY, MARGIN + 30, legendY, color));
+            svg.append(text(MARGIN + 36, legendY + 4, window.phase(), "start"));
+        }
+        return svg.append("</svg>").toString();
+    }
+
+    private static void writeDistribution(Path directory, LoadWindow window) throws IOException {
+        String name = (window.scenario() + "-" + window.phase()).replaceAll("[^A-Za-z0-9]+", "-").toLowerCase(Locale.ROOT);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            Histogram latency = window.total().latency();
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double niceCeiling(double value) {
+        double magnitude = Math.pow(10, Math.floor(Math.log10(value)));
+        for (double step : new double[]{1, 2, 2.5, 5, 10}) {
+            if (value <= step * magnitude) {
+                return step * magnitude;
+            }
+        }
+        return 10 * magnitude;
+    }
+
+    private static String line(double x1, double y1, double x2, double y2, String color) {
+        return "<line x1='" + format(x1) + "' y1='" + format(y1) + "' x2='" + format(x2) + "' y2='" + format(y2)
+                + "' stroke='" + color + "'/>";
+    }
+
+    private static String text(double x, double y, String content, String anchor) {
+        return "<text x='" + format(x) + "' y='" + format(y) + "' text-anchor='" + anchor + "'>" + content + "</text>";
+    }
+
+    private static String millis(long micros) {
+        return format(micros / 1000.0);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, value >= 100 ? "%.0f" : "%.1f", value);
+    }
+}
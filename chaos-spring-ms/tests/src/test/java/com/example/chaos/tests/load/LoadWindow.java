@@ -0,0 +1,96 @@
+package com.example.chaos.tests.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors for the requests scheduled while one phase (e.g. "during") of a scenario
+ * was active. Requests are attributed by intended start time, so a response that arrives after
+ * the toxic is removed still counts against the window it was issued in.
+ */
+public class LoadWindow {
+
+    /** Latencies in microseconds; {@code latency} is measured from the intended start time. */
+    public static class Stats {
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long latencyNanos, long serviceNanos, boolean ok) {
+            latency.recordValue(latencyNanos / 1000);
+            serviceTime.recordValue(serviceNanos / 1000);
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public Histogram serviceTime() {
+            return serviceTime;
+        }
+
+        public long requests() {
+            return latency.getTotalCount();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public double errorRate() {
+            return requests() == 0 ? 0 : (double) errors() / requests();
+        }
+    }
+
+    private final String scenario;
+    private final String phase;
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+    private final Stats total = new Stats();
+    private final Map<String, Stats> byEndpoint = new ConcurrentHashMap<>();
+
+    LoadWindow(String scenario, String phase) {
+        this.scenario = scenario;
+        this.phase = phase;
+    }
+
+    void record(String endpoint, long latencyNanos, long serviceNanos, boolean ok) {
+        total.record(latencyNanos, serviceNanos, ok);
+        byEndpoint.computeIfAbsent(endpoint, e -> new Stats()).record(latencyNanos, serviceNanos, ok);
+    }
+
+    void close() {
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    public String scenario() {
+        return scenario;
+    }
+
+    public String phase() {
+        return phase;
+    }
+
+    public Duration duration() {
+        return Duration.ofNanos((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos);
+    }
+
+    public Stats total() {
+        return total;
+    }
+
+    public Map<String, Stats> byEndpoint() {
+        return new TreeMap<>(byEndpoint);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.chaos.tests.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests from a {@link RequestMix} at a fixed arrival rate, whether or not earlier
+ * responses have come back. Each request has an intended start time on the rate schedule and its
+ * latency is measured from there rather than from when it was actually sent, so stalls in the
+ * service (or in this client) show up in the percentiles instead of silently lowering the offered
+ * load (coordinated omission). The uncorrected send-to-response time is kept alongside as
+ * service time.
+ */
+public class OpenLoopLoadGenerator implements AutoCloseable {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final URI baseUri;
+    private final long intervalNanos;
+    private final RequestMix mix;
+    private final Duration requestTimeout;
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<LoadWindow> windows = new CopyOnWriteArrayList<>();
+    private volatile LoadWindow current;
+    private volatile boolean running;
+    private Thread scheduler;
+
+    public OpenLoopLoadGenerator(URI baseUri, double requestsPerSecond, RequestMix mix, Duration requestTimeout) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        this.baseUri = baseUri;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.mix = mix;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduler = Thread.ofPlatform().name("load-scheduler").daemon().start(this::schedule);
+    }
+
+    /** Closes the current window and attributes requests issued from now on to a new one. */
+    public synchronized LoadWindow startWindow(String scenario, String phase) {
+        LoadWindow window = new LoadWindow(scenario, phase);
+        closeCurrent();
+        windows.add(window);
+        current = window;
+        return window;
+    }
+
+    /** Keeps sending load but stops recording it, e.g. for warmup or while switching toxics. */
+    public synchronized void pauseRecording() {
+        closeCurrent();
+        current = null;
+    }
+
+    /** Stops sending, waits for in-flight requests and returns every recorded window in order. */
+    public synchronized List<LoadWindow> stop() throws InterruptedException {
+        running = false;
+        if (scheduler != null) {
+            scheduler.join();
+        }
+        closeCurrent();
+        current = null;
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .get(requestTimeout.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | java.util.concurrent.ExecutionException ignored) {
+            // responses still outstanding past their own timeout are dropped from the report
+        }
+        return List.copyOf(windows);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stop();
+        client.close();
+    }
+
+    private void closeCurrent() {
+        LoadWindow window = current;
+        if (window != null) {
+            window.close();
+        }
+    }
+
+    private void schedule() {
+        long intendedStart = System.nanoTime();
+        while (running) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            send(intendedStart);
+            intendedStart += intervalNanos;
+        }
+    }
+
+    private void send(long intendedStart) {
+        LoadWindow window = current;
+        RequestMix.Target target = mix.next();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(target.path()))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        long sentAt = System.nanoTime();
+        CompletableFuture<?> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((result, error) -> {
+                    long now = System.nanoTime();
+                    if (window != null) {
+                        boolean ok = error == null && result.statusCode() < 400;
+                        window.record(target.endpoint(), now - intendedStart, now - sentAt, ok);
+                    }
+                    return null;
+                });
+        inFlight.add(response);
+        response.whenComplete((result, error) -> inFlight.remove(response));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.chaos.tests.load;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted mix of read endpoints, parsed from a spec like {@code list=2,get=5,enrich=3}. Item ids
+ * are drawn uniformly from the seeded ids.
+ */
+public class RequestMix {
+
+    public record Target(String endpoint, String path) {
+    }
+
+    private static final List<String> ENDPOINTS = List.of("list", "get", "enrich");
+
+    private final String[] endpoints;
+    private final int[] cumulativeWeights;
+    private final List<Long> ids;
+
+    private RequestMix(Map<String, Integer> weights, List<Long> ids) {
+        this.endpoints = weights.keySet().toArray(String[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.ids = List.copyOf(ids);
+    }
+
+    public static RequestMix parse(String spec, List<Long> ids) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] entry = part.trim().split("=");
+            if (entry.length != 2 || !ENDPOINTS.contains(entry[0])) {
+                throw new IllegalArgumentException("Invalid request mix entry '" + part + "', expected one of "
+                        + ENDPOINTS + " as name=weight");
+            }
+            int weight = Integer.parseInt(entry[1]);
+            if (weight > 0) {
+                weights.put(entry[0], weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Request mix '" + spec + "' has no positive weights");
+        }
+        if (ids.isEmpty() && (weights.containsKey("get") || weights.containsKey("enrich"))) {
+            throw new IllegalArgumentException("Request mix '" + spec + "' needs seeded item ids");
+        }
+        return new RequestMix(weights, ids);
+    }
+
+    public Target next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (pick >= cumulativeWeights[i]) {
+            i++;
+        }
+        String endpoint = endpoints[i];
+        return switch (endpoint) {
+            case "list" -> new Target(endpoint, "/api/items?limit=10");
+            case "get" -> new Target(endpoint, "/api/items/" + ids.get(random.nextInt(ids.size())));
+            default -> new Target(endpoint, "/api/enrich/" + ids.get(random.nextInt(ids.size())));
+        };
+    }
+}
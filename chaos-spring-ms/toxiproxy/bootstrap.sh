@@ -26,7 +26,16 @@ create_proxy() {
 
 # Proxies within the Docker network
 create_proxy "db_proxy" "0.0.0.0:15432" "postgres:5432"
+create_proxy "db_replica_proxy" "0.0.0.0:15532" "postgres-replica:5432"
 create_proxy "redis_proxy" "0.0.0.0:16379" "redis:6379"
 create_proxy "ext_proxy" "0.0.0.0:18080" "wiremock:8080"
 
+# One proxy set per extra service lane (ms-1, ms-2) so scenarios on different lanes never share toxics
+for lane in 1 2; do
+  create_proxy "db_proxy_${lane}" "0.0.0.0:$((15432 + lane))" "postgres:5432"
+  create_proxy "db_replica_proxy_${lane}" "0.0.0.0:$((15532 + lane))" "postgres-replica:5432"
+  create_proxy "redis_proxy_${lane}" "0.0.0.0:$((16379 + lane))" "redis:6379"
+  create_proxy "ext_proxy_${lane}" "0.0.0.0:$((18080 + lane))" "wiremock:8080"
+done
+
 echo "Toxiproxy initialized."